@@ -0,0 +1,72 @@
+// k6 load test comparing platform and virtual threads.
+//
+// Run the service once with VIRTUAL_THREADS_ENABLED=false and once with =true, against the
+// same database, and compare http_req_duration percentiles and achieved iterations:
+//
+//   k6 run -e BASE_URL=http://localhost:8092 -e TENANT_ID=<uuid> loadtest/candidate-load.js
+//
+// Reads cover the cached and keyset paths; uploads hold request threads on multipart
+// spooling, hashing and the job insert. Raise the rates until the platform-thread run
+// saturates its Tomcat pool (server.tomcat.threads.max, 200 by default) and compare.
+// Pass -e RESUME_FILE=/path/to/resume.pdf to upload a real file instead of filler bytes.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8092';
+const TENANT_ID = __ENV.TENANT_ID || '00000000-0000-0000-0000-000000000001';
+const RESUME = __ENV.RESUME_FILE ? open(__ENV.RESUME_FILE, 'b') : 'x'.repeat(256 * 1024);
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-arrival-rate',
+            exec: 'reads',
+            rate: 500,
+            timeUnit: '1s',
+            duration: '2m',
+            preAllocatedVUs: 200,
+            maxVUs: 1000,
+        },
+        uploads: {
+            executor: 'constant-arrival-rate',
+            exec: 'uploads',
+            rate: 50,
+            timeUnit: '1s',
+            duration: '2m',
+            preAllocatedVUs: 100,
+            maxVUs: 800,
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:reads}': ['p(95)<250'],
+        'http_req_failed': ['rate<0.01'],
+    },
+};
+
+const headers = { 'X-Tenant-ID': TENANT_ID };
+
+export function setup() {
+    const page = http.get(`${BASE_URL}/api/v1/candidates/scroll?limit=200&view=summary`, { headers });
+    const ids = page.json('content').map((c) => c.id);
+    if (ids.length === 0) {
+        throw new Error('Seed candidates for the tenant first (POST /api/v1/candidates/import)');
+    }
+    return { ids };
+}
+
+export function reads(data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const res = http.get(`${BASE_URL}/api/v1/candidates/${id}`, { headers });
+    check(res, { 'read 200': (r) => r.status === 200 });
+
+    const list = http.get(`${BASE_URL}/api/v1/candidates/scroll?limit=20&view=summary`, { headers });
+    check(list, { 'scroll 200': (r) => r.status === 200 });
+}
+
+export function uploads(data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const res = http.post(`${BASE_URL}/api/v1/candidates/${id}/resume`,
+        { file: http.file(RESUME, 'resume.pdf', 'application/pdf') },
+        { headers });
+    check(res, { 'upload 202': (r) => r.status === 202 });
+}
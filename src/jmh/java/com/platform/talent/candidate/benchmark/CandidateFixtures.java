@@ -0,0 +1,94 @@
+package com.platform.talent.candidate.benchmark;
+
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.CandidateDetails;
+import com.platform.talent.candidate.domain.model.CandidateStatus;
+import com.platform.talent.candidate.domain.model.PipelineStage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic, realistically populated candidates for benchmarks.
+ */
+final class CandidateFixtures {
+
+    private static final String[] SKILLS = {
+        "Java", "Spring Boot", "Kubernetes", "PostgreSQL", "Kafka", "Elasticsearch",
+        "React", "TypeScript", "AWS", "Terraform", "Python", "Go"
+    };
+    private static final String[] CITIES = {"Singapore", "Jakarta", "Bangkok", "Manila", "Kuala Lumpur"};
+
+    private CandidateFixtures() {
+    }
+
+    static List<Candidate> candidates(int count) {
+        Random random = new Random(42);
+        UUID tenantId = new UUID(1L, 1L);
+        List<Candidate> candidates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            candidates.add(candidate(tenantId, i, random));
+        }
+        return candidates;
+    }
+
+    static Candidate candidate(UUID tenantId, int i, Random random) {
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(i);
+        return Candidate.builder()
+                .id(new UUID(random.nextLong(), random.nextLong()))
+                .tenantId(tenantId)
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .email("candidate" + i + "@example.com")
+                .phone("+65 6000 " + (1000 + i % 9000))
+                .location(CITIES[i % CITIES.length] + ", Asia")
+                .city(CITIES[i % CITIES.length])
+                .country("SG")
+                .status(CandidateStatus.values()[i % CandidateStatus.values().length])
+                .pipelineStage(PipelineStage.values()[i % PipelineStage.values().length])
+                .source("LINKEDIN")
+                .summary("Backend engineer with a focus on distributed systems and data-intensive services.")
+                .yearsOfExperience(random.nextInt(20))
+                .currentCompany("Company " + (i % 50))
+                .currentPosition("Senior Software Engineer")
+                .expectedSalary(60_000 + random.nextInt(120_000) * 1.0)
+                .salaryCurrency("SGD")
+                .noticePeriodDays(30)
+                .skills(List.of(SKILLS[i % SKILLS.length], SKILLS[(i + 1) % SKILLS.length],
+                        SKILLS[(i + 5) % SKILLS.length], SKILLS[(i + 7) % SKILLS.length]))
+                .certifications(List.of("AWS Solutions Architect"))
+                .languages(List.of("English", "Mandarin"))
+                .linkedinUrl("https://www.linkedin.com/in/candidate" + i)
+                .githubUrl("https://github.com/candidate" + i)
+                .isAvailable(true)
+                .isRemoteInterested(i % 2 == 0)
+                .isRelocationInterested(i % 3 == 0)
+                .rating(4.0)
+                .lastContactedAt(created.plusDays(3))
+                .createdAt(created)
+                .updatedAt(created.plusDays(1))
+                .version(1L)
+                .build();
+    }
+
+    static CandidateDetails details(Candidate candidate, int i) {
+        return CandidateDetails.builder()
+                .candidateId(candidate.getId())
+                .candidate(candidate)
+                .resumeData(Map.of(
+                        "name", candidate.getFullName(),
+                        "skills", List.of(SKILLS[i % SKILLS.length], SKILLS[(i + 3) % SKILLS.length]),
+                        "yearsOfExperience", candidate.getYearsOfExperience(),
+                        "raw", "Lorem ipsum ".repeat(40)))
+                .education(Map.of("degree", "BSc Computer Science", "institution", "NUS", "year", 2015))
+                .workExperience(List.of(
+                        Map.of("company", "Company A", "title", "Engineer", "years", 3),
+                        Map.of("company", "Company B", "title", "Senior Engineer", "years", 4)))
+                .version(1L)
+                .build();
+    }
+}
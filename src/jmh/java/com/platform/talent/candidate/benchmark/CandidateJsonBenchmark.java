@@ -0,0 +1,73 @@
+package com.platform.talent.candidate.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.CandidateDetails;
+import com.platform.talent.candidate.service.event.CandidateEventPublisher;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson round-trips of the CandidateDetails JSONB columns, paid wherever a candidate's
+ * details are loaded or saved, and of the outbox event payload published to Kafka. Run with {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandidateJsonBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {};
+    private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAPS = new TypeReference<>() {};
+
+    private ObjectMapper objectMapper;
+    private Candidate candidate;
+    private CandidateDetails details;
+    private LocalDateTime now;
+    private byte[] resumeDataJson;
+    private byte[] workExperienceJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        candidate = CandidateFixtures.candidates(1).get(0);
+        details = CandidateFixtures.details(candidate, 0);
+        now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        resumeDataJson = objectMapper.writeValueAsBytes(details.getResumeData());
+        workExperienceJson = objectMapper.writeValueAsBytes(details.getWorkExperience());
+    }
+
+    @Benchmark
+    public byte[] resumeDataWrite() throws Exception {
+        return objectMapper.writeValueAsBytes(details.getResumeData());
+    }
+
+    @Benchmark
+    public Map<String, Object> resumeDataRead() throws Exception {
+        return objectMapper.readValue(resumeDataJson, MAP);
+    }
+
+    @Benchmark
+    public byte[] workExperienceWrite() throws Exception {
+        return objectMapper.writeValueAsBytes(details.getWorkExperience());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> workExperienceRead() throws Exception {
+        return objectMapper.readValue(workExperienceJson, LIST_OF_MAPS);
+    }
+
+    // Payload map built, stored as JSONB, then serialized again by the relay's JsonSerializer
+    @Benchmark
+    public byte[] eventPayload() throws Exception {
+        return objectMapper.writeValueAsBytes(
+                CandidateEventPublisher.toPayload("candidate.updated", candidate, now));
+    }
+}
@@ -0,0 +1,137 @@
+package com.platform.talent.candidate.benchmark;
+
+import com.platform.talent.candidate.api.dto.CandidateResponse;
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.search.CandidateDocument;
+import com.platform.talent.candidate.service.mapping.CandidateMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a page of candidates with {@link CandidateMapper} versus the builder-based mapping it
+ * replaced. Run with {@code -prof gc} to compare gc.alloc.rate.norm (bytes/op).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandidateMappingBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    private List<Candidate> page;
+    private CandidateMapper mapper;
+
+    @Setup
+    public void setUp() {
+        page = CandidateFixtures.candidates(pageSize);
+        mapper = new CandidateMapper();
+    }
+
+    @Benchmark
+    public void responseMapper(Blackhole blackhole) {
+        for (Candidate candidate : page) {
+            blackhole.consume(mapper.toResponse(candidate));
+        }
+    }
+
+    @Benchmark
+    public void responseBuilder(Blackhole blackhole) {
+        for (Candidate candidate : page) {
+            blackhole.consume(builderResponse(candidate));
+        }
+    }
+
+    @Benchmark
+    public void documentMapper(Blackhole blackhole) {
+        for (Candidate candidate : page) {
+            blackhole.consume(mapper.toDocument(candidate));
+        }
+    }
+
+    @Benchmark
+    public void documentBuilder(Blackhole blackhole) {
+        for (Candidate candidate : page) {
+            blackhole.consume(builderDocument(candidate));
+        }
+    }
+
+    // Baseline: the mapping CandidateService used before CandidateMapper
+    private static CandidateResponse builderResponse(Candidate candidate) {
+        return CandidateResponse.builder()
+                .id(candidate.getId())
+                .tenantId(candidate.getTenantId())
+                .firstName(candidate.getFirstName())
+                .lastName(candidate.getLastName())
+                .email(candidate.getEmail())
+                .phone(candidate.getPhone())
+                .location(candidate.getLocation())
+                .city(candidate.getCity())
+                .country(candidate.getCountry())
+                .status(candidate.getStatus())
+                .pipelineStage(candidate.getPipelineStage())
+                .source(candidate.getSource())
+                .referredBy(candidate.getReferredBy())
+                .summary(candidate.getSummary())
+                .yearsOfExperience(candidate.getYearsOfExperience())
+                .currentCompany(candidate.getCurrentCompany())
+                .currentPosition(candidate.getCurrentPosition())
+                .expectedSalary(candidate.getExpectedSalary())
+                .salaryCurrency(candidate.getSalaryCurrency())
+                .noticePeriodDays(candidate.getNoticePeriodDays())
+                .skills(candidate.getSkills())
+                .certifications(candidate.getCertifications())
+                .languages(candidate.getLanguages())
+                .resumeUrl(candidate.getResumeUrl())
+                .linkedinUrl(candidate.getLinkedinUrl())
+                .githubUrl(candidate.getGithubUrl())
+                .portfolioUrl(candidate.getPortfolioUrl())
+                .isAvailable(candidate.getIsAvailable())
+                .isRemoteInterested(candidate.getIsRemoteInterested())
+                .isRelocationInterested(candidate.getIsRelocationInterested())
+                .rating(candidate.getRating())
+                .lastContactedAt(candidate.getLastContactedAt())
+                .createdAt(candidate.getCreatedAt())
+                .updatedAt(candidate.getUpdatedAt())
+                .build();
+    }
+
+    // Baseline: the mapping CandidateSearchService used before CandidateMapper
+    private static CandidateDocument builderDocument(Candidate candidate) {
+        return CandidateDocument.builder()
+                .id(candidate.getId().toString())
+                .tenantId(candidate.getTenantId())
+                .firstName(candidate.getFirstName())
+                .lastName(candidate.getLastName())
+                .email(candidate.getEmail())
+                .phone(candidate.getPhone())
+                .location(candidate.getLocation())
+                .city(candidate.getCity())
+                .country(candidate.getCountry())
+                .status(candidate.getStatus().name())
+                .pipelineStage(candidate.getPipelineStage() != null ? candidate.getPipelineStage().name() : null)
+                .summary(candidate.getSummary())
+                .yearsOfExperience(candidate.getYearsOfExperience())
+                .currentCompany(candidate.getCurrentCompany())
+                .currentPosition(candidate.getCurrentPosition())
+                .skills(candidate.getSkills())
+                .certifications(candidate.getCertifications())
+                .languages(candidate.getLanguages())
+                .source(candidate.getSource())
+                .expectedSalary(candidate.getExpectedSalary())
+                .salaryCurrency(candidate.getSalaryCurrency())
+                .isAvailable(candidate.getIsAvailable())
+                .isRemoteInterested(candidate.getIsRemoteInterested())
+                .isRelocationInterested(candidate.getIsRelocationInterested())
+                .rating(candidate.getRating())
+                .createdAt(candidate.getCreatedAt())
+                .updatedAt(candidate.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.platform.talent.candidate.benchmark;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.json.JsonpUtils;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import com.platform.talent.candidate.api.dto.CandidateSearchCriteria;
+import com.platform.talent.candidate.search.CandidateSearchQueries;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the Elasticsearch query for a keyword-only and a fully filtered search, and
+ * serializes it the way the client does before sending. Run with {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandidateSearchQueryBenchmark {
+
+    @Param({"keywords", "filtered"})
+    private String shape;
+
+    private CandidateSearchCriteria criteria;
+    private JacksonJsonpMapper jsonpMapper;
+
+    @Setup
+    public void setUp() {
+        CandidateSearchCriteria.CandidateSearchCriteriaBuilder builder = CandidateSearchCriteria.builder()
+                .tenantId(new UUID(1L, 1L))
+                .keywords("senior java engineer");
+        if ("filtered".equals(shape)) {
+            builder.skills(List.of("Java", "Kafka", "PostgreSQL"))
+                    .location("Singapore")
+                    .minExperience(5)
+                    .maxExperience(15)
+                    .minSalary(80_000.0)
+                    .maxSalary(160_000.0)
+                    .isRemoteInterested(true)
+                    .isRelocationInterested(true)
+                    .status("SCREENING")
+                    .pipelineStage("PHONE_SCREEN");
+        }
+        criteria = builder.build();
+        jsonpMapper = new JacksonJsonpMapper();
+    }
+
+    @Benchmark
+    public Query build() {
+        return CandidateSearchQueries.build(criteria);
+    }
+
+    @Benchmark
+    public String buildAndSerialize() {
+        return JsonpUtils.toJsonString(CandidateSearchQueries.build(criteria), jsonpMapper);
+    }
+}
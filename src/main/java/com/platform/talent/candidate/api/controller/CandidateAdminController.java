@@ -0,0 +1,52 @@
+package com.platform.talent.candidate.api.controller;
+
+import com.platform.talent.candidate.api.dto.CandidateReindexJobResponse;
+import com.platform.talent.candidate.service.indexing.CandidateReindexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/candidates")
+@Tag(name = "Candidate Administration", description = "Operational jobs for the candidate service")
+public class CandidateAdminController {
+
+    private final CandidateReindexService reindexService;
+
+    public CandidateAdminController(CandidateReindexService reindexService) {
+        this.reindexService = reindexService;
+    }
+
+    @PostMapping("/reindex")
+    @Operation(summary = "Rebuild the candidates search index and swap the alias")
+    public ResponseEntity<CandidateReindexJobResponse> startReindex(
+            @RequestParam(required = false) Integer maxDocsPerSecond) {
+        CandidateReindexJobResponse response = reindexService.startReindex(maxDocsPerSecond);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/reindex/{jobId}")
+    @Operation(summary = "Get reindex job progress")
+    public ResponseEntity<CandidateReindexJobResponse> getReindexJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(reindexService.getReindexJob(jobId));
+    }
+
+    @PostMapping("/reindex/{jobId}/pause")
+    @Operation(summary = "Pause a running reindex job at the next checkpoint")
+    public ResponseEntity<CandidateReindexJobResponse> pauseReindex(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(reindexService.pauseReindex(jobId));
+    }
+
+    @PostMapping("/reindex/{jobId}/resume")
+    @Operation(summary = "Resume a paused or failed reindex job from its checkpoint")
+    public ResponseEntity<CandidateReindexJobResponse> resumeReindex(
+            @PathVariable UUID jobId,
+            @RequestParam(required = false) Integer maxDocsPerSecond) {
+        CandidateReindexJobResponse response = reindexService.resumeReindex(jobId, maxDocsPerSecond);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
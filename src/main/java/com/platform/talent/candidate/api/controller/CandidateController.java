@@ -6,6 +6,11 @@ import com.platform.talent.candidate.domain.model.PipelineStage;
 import com.platform.talent.candidate.search.CandidateDocument;
 import com.platform.talent.candidate.service.CandidateSearchService;
 import com.platform.talent.candidate.service.CandidateService;
+import com.platform.talent.candidate.service.counter.CandidateCounterService;
+import com.platform.talent.candidate.service.importer.CandidateImportService;
+import com.platform.talent.candidate.service.matching.CandidateSkillIndex;
+import com.platform.talent.candidate.service.resume.ResumeBatchService;
+import com.platform.talent.candidate.service.resume.ResumeParseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -18,6 +23,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -27,12 +34,25 @@ import java.util.UUID;
 public class CandidateController {
 
     private final CandidateService candidateService;
+    private final CandidateImportService importService;
+    private final ResumeParseService resumeParseService;
+    private final ResumeBatchService resumeBatchService;
+    private final CandidateCounterService counterService;
+
+    @Autowired(required = false)
+    private CandidateSkillIndex skillIndex;
     
     @Autowired(required = false)
     private CandidateSearchService searchService;
     
-    public CandidateController(CandidateService candidateService) {
+    public CandidateController(CandidateService candidateService, CandidateImportService importService,
+                               ResumeParseService resumeParseService, ResumeBatchService resumeBatchService,
+                               CandidateCounterService counterService) {
         this.candidateService = candidateService;
+        this.importService = importService;
+        this.resumeParseService = resumeParseService;
+        this.resumeBatchService = resumeBatchService;
+        this.counterService = counterService;
     }
 
     @PostMapping
@@ -44,6 +64,34 @@ public class CandidateController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Bulk import candidates from a CSV file")
+    public ResponseEntity<CandidateImportJobResponse> importCandidates(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @RequestParam("file") MultipartFile file) {
+        CandidateImportJobResponse response = importService.startImport(tenantId, file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "Bulk import candidates from a CSV request body (for files over the multipart limit)")
+    public ResponseEntity<CandidateImportJobResponse> importCandidatesFromBody(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @RequestParam(value = "fileName", required = false) String fileName,
+            InputStream body) {
+        CandidateImportJobResponse response = importService.startImport(tenantId, fileName, body);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "Get bulk import progress")
+    public ResponseEntity<CandidateImportJobResponse> getImportJob(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @PathVariable UUID jobId) {
+        CandidateImportJobResponse response = importService.getImportJob(tenantId, jobId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get candidate by ID")
     public ResponseEntity<CandidateResponse> getCandidate(
@@ -54,15 +102,51 @@ public class CandidateController {
     }
 
     @GetMapping
-    @Operation(summary = "List all candidates")
-    public ResponseEntity<Page<CandidateResponse>> listCandidates(
+    @Operation(summary = "List all candidates (view=summary returns scalar fields only; resume data, education and work experience are returned by GET /{id})")
+    public ResponseEntity<Page<?>> listCandidates(
             @RequestHeader("X-Tenant-ID") UUID tenantId,
             @RequestParam(required = false) CandidateStatus status,
+            @RequestParam(defaultValue = "full") String view,
             Pageable pageable) {
+        if ("summary".equalsIgnoreCase(view)) {
+            return ResponseEntity.ok(candidateService.listCandidateSummaries(tenantId, status, pageable));
+        }
         Page<CandidateResponse> response = candidateService.listCandidates(tenantId, status, pageable);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "List candidates with cursor pagination (pass nextCursor back as cursor)")
+    public ResponseEntity<CursorPageResponse<?>> scrollCandidates(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @RequestParam(required = false) CandidateStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "full") String view) {
+        if ("summary".equalsIgnoreCase(view)) {
+            return ResponseEntity.ok(candidateService.scrollCandidateSummaries(tenantId, status, cursor, limit));
+        }
+        return ResponseEntity.ok(candidateService.scrollCandidates(tenantId, status, cursor, limit));
+    }
+
+    @GetMapping("/funnel")
+    @Operation(summary = "Candidate counts by status and pipeline stage")
+    public ResponseEntity<CandidateFunnelResponse> getFunnel(
+            @RequestHeader("X-Tenant-ID") UUID tenantId) {
+        return ResponseEntity.ok(counterService.getFunnel(tenantId));
+    }
+
+    @PostMapping("/match")
+    @Operation(summary = "Rank candidates by weighted skill overlap with a job's skills")
+    public ResponseEntity<CandidateMatchResponse> matchCandidates(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @Valid @RequestBody CandidateMatchRequest request) {
+        if (skillIndex == null) {
+            throw new RuntimeException("Skill matching is disabled");
+        }
+        return ResponseEntity.ok(skillIndex.match(tenantId, request));
+    }
+
     @PostMapping("/search")
     @Operation(summary = "Advanced search candidates")
     public ResponseEntity<Page<CandidateDocument>> searchCandidates(
@@ -72,13 +156,73 @@ public class CandidateController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/search/faceted")
+    @Operation(summary = "Advanced search with skill, location, status, experience and salary facets")
+    public ResponseEntity<CandidateFacetedSearchResponse> facetedSearchCandidates(
+            @RequestBody CandidateSearchCriteria criteria,
+            Pageable pageable) {
+        CandidateFacetedSearchResponse response = searchService.searchCandidatesWithFacets(criteria, pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/search/scroll")
+    @Operation(summary = "Advanced search with search_after cursor pagination")
+    public ResponseEntity<CursorPageResponse<CandidateDocument>> scrollSearchCandidates(
+            @RequestBody CandidateSearchCriteria criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPageResponse<CandidateDocument> response = searchService.searchCandidatesAfter(criteria, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping(value = "/{id}/resume", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "Upload and parse resume")
-    public ResponseEntity<CandidateResponse> uploadResume(
+    @Operation(summary = "Upload a resume and queue it for parsing")
+    public ResponseEntity<ResumeParseJobResponse> uploadResume(
             @RequestHeader("X-Tenant-ID") UUID tenantId,
             @PathVariable UUID id,
             @RequestParam("file") MultipartFile file) {
-        CandidateResponse response = candidateService.uploadResume(tenantId, id, file);
+        ResumeParseJobResponse response = resumeParseService.submit(tenantId, id, file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping(value = "/resumes/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload many resumes (files + candidateIds, or a zip of <candidateId>.<ext> entries)")
+    public ResponseEntity<ResumeBatchJobResponse> uploadResumeBatch(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @RequestParam(value = "files", required = false) List<MultipartFile> files,
+            @RequestParam(value = "candidateIds", required = false) List<UUID> candidateIds,
+            @RequestParam(value = "archive", required = false) MultipartFile archive) {
+        ResumeBatchJobResponse response = archive != null
+                ? resumeBatchService.submitArchive(tenantId, archive)
+                : resumeBatchService.submitFiles(tenantId, files, candidateIds);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping(value = "/resumes/batch", consumes = "application/zip")
+    @Operation(summary = "Upload a zip of <candidateId>.<ext> resumes as the request body (for archives over the multipart limit)")
+    public ResponseEntity<ResumeBatchJobResponse> uploadResumeArchive(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            InputStream body) {
+        ResumeBatchJobResponse response = resumeBatchService.submitArchive(tenantId, body);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/resumes/batch/{batchId}")
+    @Operation(summary = "Get per-file outcomes of a resume batch")
+    public ResponseEntity<ResumeBatchJobResponse> getResumeBatch(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @PathVariable UUID batchId) {
+        ResumeBatchJobResponse response = resumeBatchService.getJob(tenantId, batchId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/resume/jobs/{jobId}")
+    @Operation(summary = "Get resume parsing progress")
+    public ResponseEntity<ResumeParseJobResponse> getResumeParseJob(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @PathVariable UUID id,
+            @PathVariable UUID jobId) {
+        ResumeParseJobResponse response = resumeParseService.getJob(tenantId, id, jobId);
         return ResponseEntity.ok(response);
     }
 
@@ -92,6 +236,15 @@ public class CandidateController {
         return ResponseEntity.ok().build();
     }
 
+    @PutMapping("/stage")
+    @Operation(summary = "Move many candidates to a pipeline stage in one update")
+    public ResponseEntity<BulkStageUpdateResponse> bulkMoveToPipelineStage(
+            @RequestHeader("X-Tenant-ID") UUID tenantId,
+            @Valid @RequestBody BulkStageUpdateRequest request) {
+        BulkStageUpdateResponse response = candidateService.bulkMoveToPipelineStage(tenantId, request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete candidate")
     public ResponseEntity<Void> deleteCandidate(
@@ -0,0 +1,41 @@
+package com.platform.talent.candidate.api.dto;
+
+import com.platform.talent.candidate.domain.model.PipelineStage;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStageUpdateRequest {
+
+    @NotNull(message = "Stage is required")
+    private PipelineStage stage;
+
+    @NotEmpty(message = "At least one candidate is required")
+    @Size(max = 1000)
+    @Valid
+    private List<Target> candidates;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Target {
+
+        @NotNull
+        private UUID id;
+
+        private Long expectedVersion; // Optional; when set, the row is skipped if it changed since
+    }
+}
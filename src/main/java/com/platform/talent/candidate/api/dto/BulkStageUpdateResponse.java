@@ -0,0 +1,20 @@
+package com.platform.talent.candidate.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStageUpdateResponse {
+    private String stage;
+    private List<UUID> updated;
+    private List<UUID> conflicts; // Version changed since the client read it
+    private List<UUID> notFound;
+}
@@ -0,0 +1,32 @@
+package com.platform.talent.candidate.api.dto;
+
+import com.platform.talent.candidate.search.CandidateDocument;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// One page of hits plus facet counts over the whole match set, keyed by facet name
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateFacetedSearchResponse {
+    private List<CandidateDocument> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private Map<String, List<FacetBucket>> facets;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetBucket {
+        private String key; // Term, or the lower bound of a histogram bucket
+        private long count;
+    }
+}
@@ -0,0 +1,23 @@
+package com.platform.talent.candidate.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateFunnelResponse {
+    private UUID tenantId;
+    private long total;
+    private Map<String, Long> byStatus; // Every CandidateStatus, zero when absent
+    private Map<String, Long> byStage;  // Every PipelineStage, in pipeline order
+    private long newLast30Days;
+    private LocalDateTime asOf;
+}
@@ -0,0 +1,29 @@
+package com.platform.talent.candidate.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateImportJobResponse {
+    private UUID jobId;
+    private String status;
+    private String fileName;
+    private long rowsRead;
+    private long imported;
+    private long duplicates;
+    private long failed;
+    private double rowsPerSecond;
+    private List<String> errors;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
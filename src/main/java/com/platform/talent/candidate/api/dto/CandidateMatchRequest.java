@@ -0,0 +1,33 @@
+package com.platform.talent.candidate.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateMatchRequest {
+
+    private List<String> requiredSkills; // Candidates must have all of these
+
+    private Map<String, Double> optionalSkills; // Skill -> weight; the score is the matched share of the total
+
+    private Integer minExperience;
+
+    private Integer maxExperience;
+
+    private Double maxSalary;
+
+    @Min(1)
+    @Max(200)
+    @Builder.Default
+    private int limit = 20;
+}
@@ -0,0 +1,31 @@
+package com.platform.talent.candidate.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateMatchResponse {
+    private int totalMatched; // Candidates passing the required skills and filters, before the limit
+    private long tookMicros;
+    private List<Match> matches;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Match {
+        private UUID candidateId;
+        private double score;
+        private List<String> matchedSkills;
+        private Integer yearsOfExperience;
+        private Double expectedSalary;
+    }
+}
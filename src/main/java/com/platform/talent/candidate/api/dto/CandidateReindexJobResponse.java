@@ -0,0 +1,27 @@
+package com.platform.talent.candidate.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateReindexJobResponse {
+    private UUID jobId;
+    private String targetIndex;
+    private String status;
+    private long docsIndexed;
+    private double docsPerSecond;
+    private Integer maxDocsPerSecond;
+    private UUID lastCandidateId;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+}
@@ -54,5 +54,6 @@ public class CandidateResponse {
     private LocalDateTime lastContactedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version; // Echo back as expectedVersion for optimistic bulk updates
 }
 
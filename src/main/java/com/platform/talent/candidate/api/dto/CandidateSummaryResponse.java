@@ -0,0 +1,39 @@
+package com.platform.talent.candidate.api.dto;
+
+import com.platform.talent.candidate.domain.model.CandidateStatus;
+import com.platform.talent.candidate.domain.model.PipelineStage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Scalar columns only; field order is the JPQL constructor order in CandidateRepository
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateSummaryResponse {
+    private UUID id;
+    private UUID tenantId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private String city;
+    private String country;
+    private CandidateStatus status;
+    private PipelineStage pipelineStage;
+    private String source;
+    private Integer yearsOfExperience;
+    private String currentCompany;
+    private String currentPosition;
+    private Boolean isAvailable;
+    private Double rating;
+    private LocalDateTime lastContactedAt;
+    private LocalDateTime lastStageChangeAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -28,22 +28,39 @@ public class CreateCandidateRequest {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Invalid email format")
+    @Size(max = 255)
     private String email;
 
     @Size(max = 20)
     private String phone;
 
+    @Size(max = 255)
     private String location;
+
+    @Size(max = 100)
     private String city;
+
+    @Size(max = 100)
     private String country;
+
+    @Size(max = 100)
     private String source;
+
     private UUID referredBy;
     private String summary;
     private Integer yearsOfExperience;
+
+    @Size(max = 255)
     private String currentCompany;
+
+    @Size(max = 255)
     private String currentPosition;
+
     private Double expectedSalary;
+
+    @Size(max = 3)
     private String salaryCurrency;
+
     private Integer noticePeriodDays;
     private List<String> skills;
     private Map<String, Object> education;
@@ -51,9 +68,16 @@ public class CreateCandidateRequest {
     private List<String> certifications;
     private List<String> languages;
     private Map<String, Object> customFields;
+
+    @Size(max = 500)
     private String linkedinUrl;
+
+    @Size(max = 500)
     private String githubUrl;
+
+    @Size(max = 500)
     private String portfolioUrl;
+
     private Boolean isAvailable;
     private Boolean isRemoteInterested;
     private Boolean isRelocationInterested;
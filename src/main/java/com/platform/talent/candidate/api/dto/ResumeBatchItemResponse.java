@@ -0,0 +1,20 @@
+package com.platform.talent.candidate.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeBatchItemResponse {
+    private String fileName;
+    private UUID candidateId;
+    private String status;
+    private boolean fromCache;
+    private String error;
+}
@@ -0,0 +1,27 @@
+package com.platform.talent.candidate.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeBatchJobResponse {
+    private UUID jobId;
+    private String status;
+    private int total;
+    private long applied;
+    private long skipped;
+    private long failed;
+    private long fromCache;
+    private List<ResumeBatchItemResponse> items;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
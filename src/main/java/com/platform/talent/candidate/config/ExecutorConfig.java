@@ -0,0 +1,72 @@
+package com.platform.talent.candidate.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // Pools keep their size limits either way; in virtual mode the workers are just cheap to block
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean(name = "candidateImportExecutor")
+    public ThreadPoolTaskExecutor candidateImportExecutor(
+            @Value("${candidate.import.workers:2}") int workers,
+            @Value("${candidate.import.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        useThreads(executor, "candidate-import-");
+        return executor;
+    }
+
+    @Bean(name = "candidateReindexExecutor")
+    public ThreadPoolTaskExecutor candidateReindexExecutor(
+            @Value("${candidate.reindex.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // One coordinator thread reading pages plus the bulk-loading workers
+        executor.setCorePoolSize(workers + 1);
+        executor.setMaxPoolSize(workers + 1);
+        executor.setQueueCapacity(workers);
+        useThreads(executor, "candidate-reindex-");
+        return executor;
+    }
+
+    @Bean(name = "resumeParseExecutor")
+    public ThreadPoolTaskExecutor resumeParseExecutor(
+            @Value("${candidate.resume.workers:4}") int workers,
+            @Value("${candidate.resume.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        useThreads(executor, "resume-parse-");
+        return executor;
+    }
+
+    @Bean(name = "resumeBatchExecutor")
+    public ThreadPoolTaskExecutor resumeBatchExecutor(
+            @Value("${candidate.resume.batch.concurrency:8}") int concurrency,
+            @Value("${candidate.resume.batch.queue-capacity:2000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // With the resume workers this pool bounds concurrent parser calls; keep the sum within
+        // max-connections-per-route so callers never wait on the connection pool
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        useThreads(executor, "resume-batch-");
+        return executor;
+    }
+
+    // Spring 6.1.1 has no setVirtualThreads; a virtual thread factory gives the same workers
+    private void useThreads(ThreadPoolTaskExecutor executor, String prefix) {
+        executor.setThreadNamePrefix(prefix);
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(prefix, 0).factory());
+        }
+    }
+}
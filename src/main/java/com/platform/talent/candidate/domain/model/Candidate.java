@@ -1,5 +1,6 @@
 package com.platform.talent.candidate.domain.model;
 
+import io.hypersistence.utils.hibernate.type.array.IntArrayType;
 import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -15,7 +16,6 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -23,7 +23,8 @@ import java.util.UUID;
     @Index(name = "idx_candidate_tenant_status", columnList = "tenant_id, status"),
     @Index(name = "idx_candidate_email", columnList = "email"),
     @Index(name = "idx_candidate_source", columnList = "source"),
-    @Index(name = "idx_candidate_created", columnList = "created_at")
+    @Index(name = "idx_candidate_created", columnList = "created_at"),
+    @Index(name = "idx_candidate_tenant_created", columnList = "tenant_id, created_at DESC, id DESC")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
@@ -95,33 +96,32 @@ public class Candidate {
     @Column(name = "notice_period_days")
     private Integer noticePeriodDays;
 
-    @Type(JsonBinaryType.class)
-    @Column(name = "resume_data", columnDefinition = "jsonb")
-    private Map<String, Object> resumeData; // Parsed resume from AI service
+    // resume_data, education, work_experience and custom_fields live in CandidateDetails
 
     @Type(JsonBinaryType.class)
     @Column(columnDefinition = "jsonb")
     private List<String> skills;
 
-    @Type(JsonBinaryType.class)
-    @Column(columnDefinition = "jsonb")
-    private Map<String, Object> education;
-
-    @Type(JsonBinaryType.class)
-    @Column(name = "work_experience", columnDefinition = "jsonb")
-    private List<Map<String, Object>> workExperience;
+    // Ids in ggj_skill_terms, parallel to skills; likewise for certifications and languages
+    @Type(IntArrayType.class)
+    @Column(name = "skill_ids", columnDefinition = "integer[]")
+    private int[] skillIds;
 
     @Type(JsonBinaryType.class)
     @Column(columnDefinition = "jsonb")
     private List<String> certifications;
 
+    @Type(IntArrayType.class)
+    @Column(name = "certification_ids", columnDefinition = "integer[]")
+    private int[] certificationIds;
+
     @Type(JsonBinaryType.class)
     @Column(columnDefinition = "jsonb")
     private List<String> languages;
 
-    @Type(JsonBinaryType.class)
-    @Column(name = "custom_fields", columnDefinition = "jsonb")
-    private Map<String, Object> customFields;
+    @Type(IntArrayType.class)
+    @Column(name = "language_ids", columnDefinition = "integer[]")
+    private int[] languageIds;
 
     @Column(name = "resume_url", length = 500)
     private String resumeUrl;
@@ -153,6 +153,9 @@ public class Candidate {
     @Column(name = "last_stage_change_at")
     private LocalDateTime lastStageChangeAt;
 
+    @Column(name = "stale_flagged_at")
+    private LocalDateTime staleFlaggedAt;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
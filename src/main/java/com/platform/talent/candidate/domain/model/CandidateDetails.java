@@ -0,0 +1,63 @@
+package com.platform.talent.candidate.domain.model;
+
+import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Type;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The large JSONB parts of a candidate profile, kept out of ggj_candidates so stage changes,
+ * list pages and bulk writes never read, deserialize or dirty-check them. Shares the
+ * candidate's id; load it through {@code CandidateDetailsRepository} where it is needed.
+ */
+@Entity
+@Table(name = "ggj_candidate_details")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateDetails {
+
+    @Id
+    @Column(name = "candidate_id")
+    private UUID candidateId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "candidate_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Candidate candidate;
+
+    @Type(JsonBinaryType.class)
+    @Column(name = "resume_data", columnDefinition = "jsonb")
+    private Map<String, Object> resumeData; // Parsed resume from AI service
+
+    @Type(JsonBinaryType.class)
+    @Column(columnDefinition = "jsonb")
+    private Map<String, Object> education;
+
+    @Type(JsonBinaryType.class)
+    @Column(name = "work_experience", columnDefinition = "jsonb")
+    private List<Map<String, Object>> workExperience;
+
+    @Type(JsonBinaryType.class)
+    @Column(name = "custom_fields", columnDefinition = "jsonb")
+    private Map<String, Object> customFields;
+
+    @Version
+    private Long version;
+
+    public boolean isEmpty() {
+        return resumeData == null && education == null && workExperience == null && customFields == null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.platform.talent.candidate.domain.model;
+
+import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Entity
+@Table(name = "ggj_candidate_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "candidate_outbox_seq")
+    @SequenceGenerator(name = "candidate_outbox_seq", sequenceName = "ggj_candidate_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Type(JsonBinaryType.class)
+    @Column(nullable = false, columnDefinition = "jsonb")
+    private Map<String, Object> payload; // Kafka message body, relayed as-is
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,57 @@
+package com.platform.talent.candidate.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "ggj_candidate_reindex_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateReindexJob {
+
+    public enum Status {
+        RUNNING,
+        PAUSED,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    private UUID id;
+
+    @Column(name = "target_index", nullable = false)
+    private String targetIndex;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Status status;
+
+    @Column(name = "last_candidate_id")
+    private UUID lastCandidateId; // Checkpoint: every candidate up to this id is loaded
+
+    @Column(name = "docs_indexed", nullable = false)
+    private long docsIndexed;
+
+    @Column(name = "max_docs_per_second")
+    private Integer maxDocsPerSecond;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,79 @@
+package com.platform.talent.candidate.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "ggj_resume_parse_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeParseJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        SKIPPED, // Batch file superseded by a later file for the same candidate
+        FAILED
+    }
+
+    @Id
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "candidate_id")
+    private UUID candidateId; // Null only for batch files rejected at intake
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Status status;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "file_path", length = 1000)
+    private String filePath; // Spooled upload, removed once the job finishes
+
+    @Column(name = "owner_node")
+    private String ownerNode; // Replica whose local storage-dir holds filePath
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "batch_id")
+    private UUID batchId;
+
+    @Column(name = "batch_position")
+    private Integer batchPosition;
+
+    @Column(name = "from_cache", nullable = false)
+    private boolean fromCache;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,35 @@
+package com.platform.talent.candidate.domain.model;
+
+import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Entity
+@Table(name = "ggj_resume_parse_cache")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeParseResult {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // Hex SHA-256 of the resume file
+
+    @Type(JsonBinaryType.class)
+    @Column(name = "parsed_data", columnDefinition = "jsonb", nullable = false)
+    private Map<String, Object> parsedData;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
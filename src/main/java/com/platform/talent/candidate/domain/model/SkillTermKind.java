@@ -0,0 +1,7 @@
+package com.platform.talent.candidate.domain.model;
+
+public enum SkillTermKind {
+    SKILL,
+    CERTIFICATION,
+    LANGUAGE
+}
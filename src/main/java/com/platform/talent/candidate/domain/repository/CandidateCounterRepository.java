@@ -0,0 +1,102 @@
+package com.platform.talent.candidate.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Striped per-tenant counters in ggj_candidate_counters. Writers hold a shared advisory
+ * lock on the tenant for the rest of their transaction; reconciliation takes it exclusively,
+ * so a recount never races an in-flight increment.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CandidateCounterRepository {
+
+    public static final String STATUS = "STATUS";
+    public static final String STAGE = "STAGE";
+
+    private static final String UPSERT_SQL = "INSERT INTO ggj_candidate_counters (tenant_id, dimension, value, stripe, count) " +
+            "SELECT ?, d.dimension, d.value, ?, d.delta FROM unnest(?, ?, ?) AS d(dimension, value, delta) " +
+            "ON CONFLICT (tenant_id, dimension, value, stripe) " +
+            "DO UPDATE SET count = ggj_candidate_counters.count + EXCLUDED.count";
+
+    private static final String READ_SQL = "SELECT dimension, value, SUM(count) FROM ggj_candidate_counters " +
+            "WHERE tenant_id = ? GROUP BY dimension, value";
+
+    private static final String RECOUNT_SQL = "INSERT INTO ggj_candidate_counters (tenant_id, dimension, value, stripe, count) " +
+            "SELECT tenant_id, 'STATUS', status, 0, COUNT(*) FROM ggj_candidates WHERE tenant_id = ? GROUP BY tenant_id, status " +
+            "UNION ALL " +
+            "SELECT tenant_id, 'STAGE', pipeline_stage, 0, COUNT(*) FROM ggj_candidates " +
+            "WHERE tenant_id = ? AND pipeline_stage IS NOT NULL GROUP BY tenant_id, pipeline_stage";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Delta(String dimension, String value, long delta) {
+    }
+
+    public record Count(String dimension, String value, long count) {
+    }
+
+    // Must run inside the transaction that changed the candidates
+    public void applyDeltas(UUID tenantId, int stripe, List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock_shared(?)", Object.class, lockKey(tenantId));
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_SQL);
+            ps.setObject(1, tenantId);
+            ps.setShort(2, (short) stripe);
+            ps.setArray(3, connection.createArrayOf("varchar", deltas.stream().map(Delta::dimension).toArray()));
+            ps.setArray(4, connection.createArrayOf("varchar", deltas.stream().map(Delta::value).toArray()));
+            ps.setArray(5, connection.createArrayOf("int8", deltas.stream().map(Delta::delta).toArray()));
+            return ps;
+        });
+    }
+
+    public List<Count> findCounts(UUID tenantId) {
+        return jdbcTemplate.query(READ_SQL,
+                (rs, row) -> new Count(rs.getString(1), rs.getString(2), rs.getLong(3)), tenantId);
+    }
+
+    // Every candidate has exactly one status, so the STATUS rows sum to the tenant's total
+    public Map<UUID, Long> findTotals() {
+        Map<UUID, Long> totals = new HashMap<>();
+        jdbcTemplate.query("SELECT tenant_id, SUM(count) FROM ggj_candidate_counters " +
+                        "WHERE dimension = 'STATUS' GROUP BY tenant_id",
+                rs -> {
+                    totals.put(rs.getObject(1, UUID.class), rs.getLong(2));
+                });
+        return totals;
+    }
+
+    // Replaces the tenant's counters with a fresh GROUP BY; must run inside a transaction
+    public void recount(UUID tenantId) {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, lockKey(tenantId));
+        jdbcTemplate.update("DELETE FROM ggj_candidate_counters WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update(RECOUNT_SQL, tenantId, tenantId);
+    }
+
+    // Every create goes through applyDeltas, so a tenant with candidates already has rows here
+    public List<UUID> findTenantIds() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT tenant_id FROM ggj_candidate_counters", UUID.class);
+    }
+
+    // True for exactly one caller until the claimed run is older than lastRunBefore
+    public boolean claimReconcile(LocalDateTime now, LocalDateTime lastRunBefore) {
+        return jdbcTemplate.update("UPDATE ggj_candidate_counter_reconcile SET last_run_at = ? " +
+                "WHERE id = 1 AND last_run_at < ?", now, lastRunBefore) == 1;
+    }
+
+    private static long lockKey(UUID tenantId) {
+        return tenantId.getMostSignificantBits() ^ tenantId.getLeastSignificantBits();
+    }
+}
@@ -0,0 +1,12 @@
+package com.platform.talent.candidate.domain.repository;
+
+import com.platform.talent.candidate.domain.model.CandidateDetails;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+// Keyed by candidate id; callers check the tenant on the candidate first
+@Repository
+public interface CandidateDetailsRepository extends JpaRepository<CandidateDetails, UUID> {
+}
@@ -0,0 +1,115 @@
+package com.platform.talent.candidate.domain.repository;
+
+import com.platform.talent.candidate.api.dto.CandidateImportJobResponse;
+import com.platform.talent.candidate.domain.model.CandidateImportJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Import job progress in ggj_candidate_import_jobs. Only the replica running a job writes
+ * it; any replica can read it. Writes to a job another replica already failed as stale are
+ * ignored, so a late worker cannot revive it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CandidateImportJobRepository {
+
+    private static final String ACTIVE = "status IN ('QUEUED', 'RUNNING')";
+
+    private static final String SELECT_SQL = "SELECT id, file_name, status, rows_read, imported, duplicates, failed, " +
+            "errors, created_at, started_at, finished_at FROM ggj_candidate_import_jobs ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(CandidateImportJob job) {
+        jdbcTemplate.update("INSERT INTO ggj_candidate_import_jobs (id, tenant_id, file_name, status, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                job.getId(), job.getTenantId(), job.getFileName(), job.getStatus().name(),
+                job.getCreatedAt(), LocalDateTime.now());
+    }
+
+    public void save(CandidateImportJob job) {
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("UPDATE ggj_candidate_import_jobs SET status = ?, " +
+                    "rows_read = ?, imported = ?, duplicates = ?, failed = ?, errors = ?, started_at = ?, " +
+                    "finished_at = ?, updated_at = ? WHERE id = ? AND " + ACTIVE);
+            ps.setString(1, job.getStatus().name());
+            ps.setLong(2, job.getRowsRead().get());
+            ps.setLong(3, job.getImported().get());
+            ps.setLong(4, job.getDuplicates().get());
+            ps.setLong(5, job.getFailed().get());
+            ps.setArray(6, connection.createArrayOf("text", job.getErrors().toArray()));
+            ps.setObject(7, job.getStartedAt());
+            ps.setObject(8, job.getFinishedAt());
+            ps.setObject(9, LocalDateTime.now());
+            ps.setObject(10, job.getId());
+            return ps;
+        });
+    }
+
+    public void delete(UUID id) {
+        jdbcTemplate.update("DELETE FROM ggj_candidate_import_jobs WHERE id = ?", id);
+    }
+
+    public Optional<CandidateImportJobResponse> findByIdAndTenantId(UUID id, UUID tenantId) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE id = ? AND tenant_id = ?",
+                (rs, row) -> toResponse(rs), id, tenantId).stream().findFirst();
+    }
+
+    // Keeps this replica's queued and running jobs from being taken for abandoned
+    public void touch(Collection<UUID> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "UPDATE ggj_candidate_import_jobs SET updated_at = ? WHERE id = ANY(?) AND " + ACTIVE);
+            ps.setObject(1, now);
+            ps.setArray(2, connection.createArrayOf("uuid", ids.toArray()));
+            return ps;
+        });
+    }
+
+    // The spooled file was local to the replica that stopped updating the job, so it cannot be resumed
+    public int failStale(LocalDateTime staleBefore, String error, LocalDateTime now) {
+        return jdbcTemplate.update("UPDATE ggj_candidate_import_jobs SET status = 'FAILED', " +
+                        "errors = array_append(errors, ?), finished_at = ?, updated_at = ? " +
+                        "WHERE " + ACTIVE + " AND updated_at < ?",
+                error, now, now, staleBefore);
+    }
+
+    public int deleteFinishedBefore(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM ggj_candidate_import_jobs " +
+                "WHERE status IN ('COMPLETED', 'FAILED') AND finished_at < ?", before);
+    }
+
+    private static CandidateImportJobResponse toResponse(ResultSet rs) throws SQLException {
+        long rowsRead = rs.getLong("rows_read");
+        LocalDateTime startedAt = rs.getObject("started_at", LocalDateTime.class);
+        LocalDateTime finishedAt = rs.getObject("finished_at", LocalDateTime.class);
+        return CandidateImportJobResponse.builder()
+                .jobId(rs.getObject("id", UUID.class))
+                .status(rs.getString("status"))
+                .fileName(rs.getString("file_name"))
+                .rowsRead(rowsRead)
+                .imported(rs.getLong("imported"))
+                .duplicates(rs.getLong("duplicates"))
+                .failed(rs.getLong("failed"))
+                .rowsPerSecond(CandidateImportJob.rowsPerSecond(rowsRead, startedAt, finishedAt))
+                .errors(List.of((String[]) rs.getArray("errors").getArray()))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
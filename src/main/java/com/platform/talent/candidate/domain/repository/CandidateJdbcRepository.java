@@ -0,0 +1,148 @@
+package com.platform.talent.candidate.domain.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.CandidateStatus;
+import com.platform.talent.candidate.domain.model.PipelineStage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based candidate writes that bypass the persistence context, for bulk paths
+ * where per-entity dirty checking and single-row inserts dominate the cost.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CandidateJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO ggj_candidates (" +
+            "id, tenant_id, first_name, last_name, email, phone, location, city, country, " +
+            "status, pipeline_stage, source, referred_by, summary, years_of_experience, current_company, " +
+            "current_position, expected_salary, salary_currency, notice_period_days, skills, certifications, " +
+            "languages, skill_ids, certification_ids, language_ids, linkedin_url, github_url, portfolio_url, " +
+            "is_available, is_remote_interested, is_relocation_interested, created_at, updated_at, version) VALUES (" +
+            "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " +
+            "CAST(? AS jsonb), CAST(? AS jsonb), CAST(? AS jsonb), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    // One statement for the whole set; expected_version NULL means "no optimistic check".
+    // The locking CTE captures the pre-update status and stage for the counters.
+    private static final String UPDATE_STAGE_SQL = "WITH targets AS (" +
+            "SELECT c.id, c.status, c.pipeline_stage FROM ggj_candidates c " +
+            "JOIN unnest(?, ?) AS t(id, expected_version) ON c.id = t.id " +
+            "WHERE c.tenant_id = ? AND (t.expected_version IS NULL OR c.version = t.expected_version) " +
+            "FOR UPDATE OF c) " +
+            "UPDATE ggj_candidates c SET pipeline_stage = ?, " +
+            "status = COALESCE(?, c.status), last_stage_change_at = ?, updated_at = ?, " +
+            "version = COALESCE(c.version, 0) + 1 " +
+            "FROM targets WHERE c.id = targets.id " +
+            "RETURNING c.id, targets.status, targets.pipeline_stage";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Candidates must carry their id, status, stage and createdAt already
+    public void batchInsert(List<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, candidates, candidates.size(), (ps, candidate) -> {
+            int i = 1;
+            ps.setObject(i++, candidate.getId());
+            ps.setObject(i++, candidate.getTenantId());
+            ps.setString(i++, candidate.getFirstName());
+            ps.setString(i++, candidate.getLastName());
+            ps.setString(i++, candidate.getEmail());
+            ps.setString(i++, candidate.getPhone());
+            ps.setString(i++, candidate.getLocation());
+            ps.setString(i++, candidate.getCity());
+            ps.setString(i++, candidate.getCountry());
+            ps.setString(i++, candidate.getStatus().name());
+            ps.setString(i++, candidate.getPipelineStage() != null ? candidate.getPipelineStage().name() : null);
+            ps.setString(i++, candidate.getSource());
+            ps.setObject(i++, candidate.getReferredBy());
+            ps.setString(i++, candidate.getSummary());
+            ps.setObject(i++, candidate.getYearsOfExperience(), Types.INTEGER);
+            ps.setString(i++, candidate.getCurrentCompany());
+            ps.setString(i++, candidate.getCurrentPosition());
+            ps.setObject(i++, candidate.getExpectedSalary(), Types.DOUBLE);
+            ps.setString(i++, candidate.getSalaryCurrency());
+            ps.setObject(i++, candidate.getNoticePeriodDays(), Types.INTEGER);
+            setJson(ps, i++, candidate.getSkills());
+            setJson(ps, i++, candidate.getCertifications());
+            setJson(ps, i++, candidate.getLanguages());
+            setIntArray(ps, i++, candidate.getSkillIds());
+            setIntArray(ps, i++, candidate.getCertificationIds());
+            setIntArray(ps, i++, candidate.getLanguageIds());
+            ps.setString(i++, candidate.getLinkedinUrl());
+            ps.setString(i++, candidate.getGithubUrl());
+            ps.setString(i++, candidate.getPortfolioUrl());
+            ps.setObject(i++, candidate.getIsAvailable(), Types.BOOLEAN);
+            ps.setObject(i++, candidate.getIsRemoteInterested(), Types.BOOLEAN);
+            ps.setObject(i++, candidate.getIsRelocationInterested(), Types.BOOLEAN);
+            ps.setTimestamp(i++, Timestamp.valueOf(candidate.getCreatedAt()));
+            ps.setTimestamp(i, Timestamp.valueOf(candidate.getCreatedAt()));
+        });
+    }
+
+    public record StageChange(UUID id, CandidateStatus oldStatus, PipelineStage oldStage) {
+    }
+
+    // Returns the rows actually updated; the rest were missing, foreign, or at another version
+    public List<StageChange> updateStage(UUID tenantId, List<UUID> ids, List<Long> expectedVersions,
+                                  PipelineStage stage, CandidateStatus status, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPDATE_STAGE_SQL);
+            int i = 1;
+            ps.setArray(i++, connection.createArrayOf("uuid", ids.toArray()));
+            ps.setArray(i++, connection.createArrayOf("int8", expectedVersions.toArray()));
+            ps.setObject(i++, tenantId);
+            ps.setString(i++, stage.name());
+            if (status != null) {
+                ps.setString(i++, status.name());
+            } else {
+                ps.setNull(i++, Types.VARCHAR);
+            }
+            ps.setTimestamp(i++, timestamp);
+            ps.setTimestamp(i, timestamp);
+            return ps;
+        }, (rs, row) -> new StageChange(
+                rs.getObject(1, UUID.class),
+                CandidateStatus.valueOf(rs.getString(2)),
+                rs.getString(3) != null ? PipelineStage.valueOf(rs.getString(3)) : null));
+    }
+
+    private static void setIntArray(PreparedStatement ps, int index, int[] value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.ARRAY);
+            return;
+        }
+        ps.setArray(index, ps.getConnection().createArrayOf("int4", Arrays.stream(value).boxed().toArray()));
+    }
+
+    private void setJson(PreparedStatement ps, int index, Object value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+            return;
+        }
+        try {
+            ps.setString(index, objectMapper.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Failed to serialize JSONB column", e);
+        }
+    }
+}
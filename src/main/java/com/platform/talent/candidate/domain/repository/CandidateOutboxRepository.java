@@ -0,0 +1,18 @@
+package com.platform.talent.candidate.domain.repository;
+
+import com.platform.talent.candidate.domain.model.CandidateOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CandidateOutboxRepository extends JpaRepository<CandidateOutboxEvent, Long> {
+
+    // SKIP LOCKED lets several replicas drain the outbox without waiting on each other
+    @Query(value = "SELECT * FROM ggj_candidate_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<CandidateOutboxEvent> lockNextBatch(@Param("limit") int limit);
+}
@@ -0,0 +1,17 @@
+package com.platform.talent.candidate.domain.repository;
+
+import com.platform.talent.candidate.domain.model.CandidateReindexJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CandidateReindexJobRepository extends JpaRepository<CandidateReindexJob, UUID> {
+
+    List<CandidateReindexJob> findByStatusIn(Collection<CandidateReindexJob.Status> statuses);
+
+    boolean existsByStatusAndIdNot(CandidateReindexJob.Status status, UUID id);
+}
@@ -1,5 +1,6 @@
 package com.platform.talent.candidate.domain.repository;
 
+import com.platform.talent.candidate.api.dto.CandidateSummaryResponse;
 import com.platform.talent.candidate.domain.model.Candidate;
 import com.platform.talent.candidate.domain.model.CandidateStatus;
 import com.platform.talent.candidate.domain.model.PipelineStage;
@@ -11,12 +12,20 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CandidateRepository extends JpaRepository<Candidate, UUID> {
+public interface CandidateRepository extends JpaRepository<Candidate, UUID>, CandidateRepositoryCustom {
+
+    // Selects scalar columns only, so list pages never read or deserialize the JSONB columns
+    String SUMMARY_SELECT = "SELECT new com.platform.talent.candidate.api.dto.CandidateSummaryResponse(" +
+            "c.id, c.tenantId, c.firstName, c.lastName, c.email, c.phone, c.city, c.country, " +
+            "c.status, c.pipelineStage, c.source, c.yearsOfExperience, c.currentCompany, " +
+            "c.currentPosition, c.isAvailable, c.rating, c.lastContactedAt, c.lastStageChangeAt, " +
+            "c.createdAt, c.updatedAt) FROM Candidate c ";
 
     Optional<Candidate> findByIdAndTenantId(UUID id, UUID tenantId);
 
@@ -24,10 +33,74 @@ public interface CandidateRepository extends JpaRepository<Candidate, UUID> {
 
     Page<Candidate> findByTenantId(UUID tenantId, Pageable pageable);
 
+    List<Candidate> findAllByTenantIdAndIdIn(UUID tenantId, Collection<UUID> ids);
+
     Page<Candidate> findByTenantIdAndStatus(UUID tenantId, CandidateStatus status, Pageable pageable);
 
     Page<Candidate> findByTenantIdAndPipelineStage(UUID tenantId, PipelineStage stage, Pageable pageable);
 
+    @Query(value = SUMMARY_SELECT + "WHERE c.tenantId = :tenantId",
+           countQuery = "SELECT COUNT(c) FROM Candidate c WHERE c.tenantId = :tenantId")
+    Page<CandidateSummaryResponse> findSummariesByTenantId(@Param("tenantId") UUID tenantId,
+                                                           Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE c.tenantId = :tenantId AND c.status = :status",
+           countQuery = "SELECT COUNT(c) FROM Candidate c WHERE c.tenantId = :tenantId AND c.status = :status")
+    Page<CandidateSummaryResponse> findSummariesByTenantIdAndStatus(@Param("tenantId") UUID tenantId,
+                                                                    @Param("status") CandidateStatus status,
+                                                                    Pageable pageable);
+
+    // Keyset (seek) pagination, newest first; pass PageRequest.of(0, limit) as the limit.
+    // The row-value comparison and the separate status variants keep every slice a single
+    // range scan on idx_candidate_tenant_created instead of an OR the planner cannot seek on.
+    String KEYSET_AFTER = "AND (c.createdAt, c.id) < (:createdAt, :id) ";
+    String KEYSET_ORDER = "ORDER BY c.createdAt DESC, c.id DESC";
+
+    @Query("SELECT c FROM Candidate c WHERE c.tenantId = :tenantId " + KEYSET_ORDER)
+    List<Candidate> findFirstSlice(@Param("tenantId") UUID tenantId, Pageable limit);
+
+    @Query("SELECT c FROM Candidate c WHERE c.tenantId = :tenantId AND c.status = :status " + KEYSET_ORDER)
+    List<Candidate> findFirstSliceByStatus(@Param("tenantId") UUID tenantId,
+                                           @Param("status") CandidateStatus status,
+                                           Pageable limit);
+
+    @Query("SELECT c FROM Candidate c WHERE c.tenantId = :tenantId " + KEYSET_AFTER + KEYSET_ORDER)
+    List<Candidate> findSliceAfter(@Param("tenantId") UUID tenantId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") UUID id,
+                                   Pageable limit);
+
+    @Query("SELECT c FROM Candidate c WHERE c.tenantId = :tenantId AND c.status = :status " +
+           KEYSET_AFTER + KEYSET_ORDER)
+    List<Candidate> findSliceByStatusAfter(@Param("tenantId") UUID tenantId,
+                                           @Param("status") CandidateStatus status,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") UUID id,
+                                           Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE c.tenantId = :tenantId " + KEYSET_ORDER)
+    List<CandidateSummaryResponse> findFirstSummarySlice(@Param("tenantId") UUID tenantId, Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE c.tenantId = :tenantId AND c.status = :status " + KEYSET_ORDER)
+    List<CandidateSummaryResponse> findFirstSummarySliceByStatus(@Param("tenantId") UUID tenantId,
+                                                                 @Param("status") CandidateStatus status,
+                                                                 Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE c.tenantId = :tenantId " + KEYSET_AFTER + KEYSET_ORDER)
+    List<CandidateSummaryResponse> findSummarySliceAfter(@Param("tenantId") UUID tenantId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") UUID id,
+                                                         Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE c.tenantId = :tenantId AND c.status = :status " +
+           KEYSET_AFTER + KEYSET_ORDER)
+    List<CandidateSummaryResponse> findSummarySliceByStatusAfter(@Param("tenantId") UUID tenantId,
+                                                                 @Param("status") CandidateStatus status,
+                                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                                 @Param("id") UUID id,
+                                                                 Pageable limit);
+
+    // Infix LIKE on the lower-cased columns is served by the V5 trigram indexes
     @Query("SELECT c FROM Candidate c WHERE c.tenantId = :tenantId " +
            "AND (LOWER(c.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
            "OR LOWER(c.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
@@ -42,12 +115,17 @@ public interface CandidateRepository extends JpaRepository<Candidate, UUID> {
                                   @Param("source") String source,
                                   Pageable pageable);
 
-    @Query("SELECT c FROM Candidate c WHERE c.tenantId = :tenantId " +
-           "AND c.status = :status " +
-           "AND c.lastContactedAt < :since")
-    List<Candidate> findStaleCandidates(@Param("tenantId") UUID tenantId,
-                                         @Param("status") CandidateStatus status,
-                                         @Param("since") LocalDateTime since);
+    // Next chunk of stale candidates across tenants, keyset on id, locked for the caller's transaction.
+    // Never-contacted candidates age from created_at; flagged ones return once contacted again.
+    @Query(value = "SELECT id FROM ggj_candidates WHERE status = :status AND id > :afterId " +
+           "AND COALESCE(last_contacted_at, created_at) < :since " +
+           "AND (stale_flagged_at IS NULL OR stale_flagged_at < COALESCE(last_contacted_at, created_at)) " +
+           "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<UUID> lockStaleIdsAfter(@Param("status") String status,
+                                 @Param("since") LocalDateTime since,
+                                 @Param("afterId") UUID afterId,
+                                 @Param("limit") int limit);
 
     long countByTenantIdAndStatus(UUID tenantId, CandidateStatus status);
 
@@ -59,5 +137,23 @@ public interface CandidateRepository extends JpaRepository<Candidate, UUID> {
                             @Param("fromDate") LocalDateTime fromDate);
 
     boolean existsByEmailAndTenantId(String email, UUID tenantId);
+
+    boolean existsByIdAndTenantId(UUID id, UUID tenantId);
+
+    // Keyset pagination over the primary key, for full-table scans such as reindexing
+    @Query(value = "SELECT * FROM ggj_candidates WHERE id > :afterId ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<Candidate> findBatchAfter(@Param("afterId") UUID afterId, @Param("limit") int limit);
+
+    @Query("SELECT c.id FROM Candidate c WHERE c.tenantId = :tenantId AND c.id IN :ids")
+    List<UUID> findExistingIds(@Param("tenantId") UUID tenantId,
+                               @Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT c.id FROM Candidate c WHERE c.id IN :ids")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT c.email FROM Candidate c WHERE c.tenantId = :tenantId AND c.email IN :emails")
+    List<String> findExistingEmails(@Param("tenantId") UUID tenantId,
+                                    @Param("emails") Collection<String> emails);
 }
 
@@ -0,0 +1,30 @@
+package com.platform.talent.candidate.domain.repository;
+
+import com.platform.talent.candidate.api.dto.CandidateSearchCriteria;
+import com.platform.talent.candidate.domain.model.Candidate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface CandidateRepositoryCustom {
+
+    // Postgres full-text + trigram search, ranked by relevance when keywords are given
+    Page<Candidate> fullTextSearch(CandidateSearchCriteria criteria, Pageable pageable);
+
+    // Same filters and order as fullTextSearch, keyset on (rank, created_at, id); after is null for the first slice
+    List<RankedCandidate> fullTextSearchAfter(CandidateSearchCriteria criteria, SearchPosition after, int limit);
+
+    // rank is null when the search has no keywords
+    record SearchPosition(Float rank, LocalDateTime createdAt, UUID id) {
+    }
+
+    record RankedCandidate(Candidate candidate, Float rank) {
+
+        public SearchPosition position() {
+            return new SearchPosition(rank, candidate.getCreatedAt(), candidate.getId());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.platform.talent.candidate.domain.repository;
+
+import com.platform.talent.candidate.api.dto.CandidateSearchCriteria;
+import com.platform.talent.candidate.domain.model.Candidate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Native search over the V5 search_vector column and trigram indexes. Every predicate is
+ * written against an indexed expression so the planner can bitmap-AND/OR them instead
+ * of scanning the tenant's rows.
+ */
+public class CandidateRepositoryCustomImpl implements CandidateRepositoryCustom {
+
+    private static final String RANK = "(ts_rank_cd(c.search_vector, websearch_to_tsquery('english', :keywords)) " +
+            "+ greatest(similarity(lower(c.first_name), :term), similarity(lower(c.last_name), :term)))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<Candidate> fullTextSearch(CandidateSearchCriteria criteria, Pageable pageable) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String where = buildWhere(criteria, params);
+        boolean ranked = params.containsKey("keywords");
+
+        // Relevance first, then recency; id keeps the order total so pages do not overlap
+        String orderBy = ranked
+                ? " ORDER BY " + RANK + " DESC, c.created_at DESC, c.id DESC"
+                : " ORDER BY c.created_at DESC, c.id DESC";
+
+        Query query = entityManager.createNativeQuery("SELECT c.* FROM ggj_candidates c" + where + orderBy, Candidate.class);
+        params.forEach(query::setParameter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<Candidate> content = query.getResultList();
+
+        // Skip the count when the first page is already short
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        Query count = entityManager.createNativeQuery("SELECT COUNT(*) FROM ggj_candidates c" + where);
+        params.forEach(count::setParameter);
+        return new PageImpl<>(content, pageable, ((Number) count.getSingleResult()).longValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<RankedCandidate> fullTextSearchAfter(CandidateSearchCriteria criteria, SearchPosition after, int limit) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String where = buildWhere(criteria, params);
+        boolean ranked = params.containsKey("keywords");
+
+        if (!ranked) {
+            // Served by idx_candidate_tenant_created like the unfiltered listing
+            if (after != null) {
+                where += " AND (c.created_at, c.id) < (:createdAt, :id)";
+                params.put("createdAt", after.createdAt());
+                params.put("id", after.id());
+            }
+            Query query = entityManager.createNativeQuery("SELECT c.* FROM ggj_candidates c" + where +
+                    " ORDER BY c.created_at DESC, c.id DESC", Candidate.class);
+            params.forEach(query::setParameter);
+            query.setMaxResults(limit);
+            return ((List<Candidate>) query.getResultList()).stream()
+                    .map(candidate -> new RankedCandidate(candidate, null))
+                    .toList();
+        }
+
+        // The rank is returned with each row so the next slice can continue from the last one
+        if (after != null) {
+            where += " AND (" + RANK + ", c.created_at, c.id) < (CAST(:rank AS real), :createdAt, :id)";
+            params.put("rank", after.rank());
+            params.put("createdAt", after.createdAt());
+            params.put("id", after.id());
+        }
+        NativeQuery<Object[]> query = entityManager.createNativeQuery("SELECT c.*, " + RANK + " AS search_rank " +
+                        "FROM ggj_candidates c" + where + " ORDER BY search_rank DESC, c.created_at DESC, c.id DESC")
+                .unwrap(NativeQuery.class);
+        query.addEntity("c", Candidate.class);
+        query.addScalar("search_rank", StandardBasicTypes.FLOAT);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList().stream()
+                .map(row -> new RankedCandidate((Candidate) row[0], (Float) row[1]))
+                .toList();
+    }
+
+    private String buildWhere(CandidateSearchCriteria criteria, Map<String, Object> params) {
+        StringBuilder where = new StringBuilder(" WHERE c.tenant_id = :tenantId");
+        params.put("tenantId", criteria.getTenantId());
+
+        if (criteria.getKeywords() != null && !criteria.getKeywords().isBlank()) {
+            String term = criteria.getKeywords().trim().toLowerCase(Locale.ROOT);
+            where.append(" AND (c.search_vector @@ websearch_to_tsquery('english', :keywords)")
+                 .append(" OR lower(c.first_name) % :term OR lower(c.last_name) % :term")
+                 .append(" OR lower(c.email) LIKE :emailPrefix)");
+            params.put("keywords", criteria.getKeywords());
+            params.put("term", term);
+            params.put("emailPrefix", escapeLike(term) + "%");
+        }
+
+        List<String> skillTerms = criteria.getSkills() == null ? List.of() : criteria.getSkills().stream()
+                .filter(Objects::nonNull)
+                .map(SkillTermRepository::normalize)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .toList();
+        if (!skillTerms.isEmpty()) {
+            // Any-of, matching the Elasticsearch terms filter. The dictionary lookup runs once as an
+            // InitPlan and the overlap probes idx_candidate_skill_ids with plain ints.
+            where.append(" AND c.skill_ids && ARRAY(SELECT t.id FROM ggj_skill_terms t")
+                 .append(" WHERE t.tenant_id = :tenantId AND t.kind = 'SKILL' AND t.normalized_term IN (:skillTerms))");
+            params.put("skillTerms", skillTerms);
+        }
+
+        if (criteria.getLocation() != null && !criteria.getLocation().isBlank()) {
+            where.append(" AND lower(c.location) LIKE :location");
+            params.put("location", "%" + escapeLike(criteria.getLocation().trim().toLowerCase(Locale.ROOT)) + "%");
+        }
+
+        if (criteria.getMinExperience() != null) {
+            where.append(" AND c.years_of_experience >= :minExperience");
+            params.put("minExperience", criteria.getMinExperience());
+        }
+
+        if (criteria.getMaxExperience() != null) {
+            where.append(" AND c.years_of_experience <= :maxExperience");
+            params.put("maxExperience", criteria.getMaxExperience());
+        }
+
+        if (criteria.getMinSalary() != null) {
+            where.append(" AND c.expected_salary >= :minSalary");
+            params.put("minSalary", criteria.getMinSalary());
+        }
+
+        if (criteria.getMaxSalary() != null) {
+            where.append(" AND c.expected_salary <= :maxSalary");
+            params.put("maxSalary", criteria.getMaxSalary());
+        }
+
+        if (Boolean.TRUE.equals(criteria.getIsRemoteInterested())) {
+            where.append(" AND c.is_remote_interested = TRUE");
+        }
+
+        if (Boolean.TRUE.equals(criteria.getIsRelocationInterested())) {
+            where.append(" AND c.is_relocation_interested = TRUE");
+        }
+
+        if (criteria.getStatus() != null && !criteria.getStatus().isBlank()) {
+            where.append(" AND c.status = :status");
+            params.put("status", criteria.getStatus().trim().toUpperCase(Locale.ROOT));
+        }
+
+        if (criteria.getPipelineStage() != null && !criteria.getPipelineStage().isBlank()) {
+            where.append(" AND c.pipeline_stage = :pipelineStage");
+            params.put("pipelineStage", criteria.getPipelineStage().trim().toUpperCase(Locale.ROOT));
+        }
+
+        return where.toString();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,93 @@
+package com.platform.talent.candidate.domain.repository;
+
+import com.platform.talent.candidate.domain.model.ResumeParseJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ResumeParseJobRepository extends JpaRepository<ResumeParseJob, UUID> {
+
+    Optional<ResumeParseJob> findByIdAndTenantIdAndCandidateId(UUID id, UUID tenantId, UUID candidateId);
+
+    // Compare-and-set on status, so a job dispatched twice (or on two replicas) runs once
+    @Modifying
+    @Query("UPDATE ResumeParseJob j SET j.status = :to, j.attempts = j.attempts + 1, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = :from")
+    int claim(@Param("id") UUID id,
+              @Param("from") ResumeParseJob.Status from,
+              @Param("to") ResumeParseJob.Status to,
+              @Param("now") LocalDateTime now);
+
+    // A null owner matches every job (shared storage); jobs without an owner match every node.
+    // Batch files belong to their batch until its heartbeat stops for batchBefore.
+    @Query("SELECT j.id FROM ResumeParseJob j WHERE j.status = :status AND j.updatedAt < :before " +
+           "AND (:owner IS NULL OR j.ownerNode IS NULL OR j.ownerNode = :owner) " +
+           "AND (j.batchId IS NULL OR j.updatedAt < :batchBefore) " +
+           "ORDER BY j.updatedAt")
+    List<UUID> findIdsByStatusUpdatedBefore(@Param("status") ResumeParseJob.Status status,
+                                            @Param("before") LocalDateTime before,
+                                            @Param("batchBefore") LocalDateTime batchBefore,
+                                            @Param("owner") String owner,
+                                            Pageable limit);
+
+    List<ResumeParseJob> findByBatchIdAndTenantIdOrderByBatchPosition(UUID batchId, UUID tenantId);
+
+    // Heartbeat for the files of batches still running on this replica
+    @Modifying
+    @Query("UPDATE ResumeParseJob j SET j.updatedAt = :now WHERE j.batchId IN :batchIds AND j.status IN :statuses")
+    int touchBatches(@Param("batchIds") Collection<UUID> batchIds,
+                     @Param("statuses") List<ResumeParseJob.Status> statuses,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ResumeParseJob j SET j.fromCache = true, j.updatedAt = :now WHERE j.id = :id")
+    int markFromCache(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    // Only jobs still RUNNING, so a file taken over by recovery keeps the outcome recovery gave it
+    @Modifying
+    @Query("UPDATE ResumeParseJob j SET j.status = :to, j.error = :error, j.updatedAt = :now, j.finishedAt = :now " +
+           "WHERE j.id IN :ids AND j.status = :running")
+    int finishRunning(@Param("ids") Collection<UUID> ids,
+                      @Param("running") ResumeParseJob.Status running,
+                      @Param("to") ResumeParseJob.Status to,
+                      @Param("error") String error,
+                      @Param("now") LocalDateTime now);
+
+    // Jobs whose worker died mid-parse go back to the queue
+    @Modifying
+    @Query("UPDATE ResumeParseJob j SET j.status = :queued, j.updatedAt = :now " +
+           "WHERE j.status = :running AND j.updatedAt < :staleBefore " +
+           "AND (:owner IS NULL OR j.ownerNode IS NULL OR j.ownerNode = :owner)")
+    int requeueStale(@Param("running") ResumeParseJob.Status running,
+                     @Param("queued") ResumeParseJob.Status queued,
+                     @Param("staleBefore") LocalDateTime staleBefore,
+                     @Param("owner") String owner,
+                     @Param("now") LocalDateTime now);
+
+    // Another node's jobs left untouched this long: that node, and its spooled files, are gone
+    @Modifying
+    @Query("UPDATE ResumeParseJob j SET j.status = :failed, j.error = :error, j.updatedAt = :now, j.finishedAt = :now " +
+           "WHERE j.status IN :statuses AND j.ownerNode IS NOT NULL AND j.ownerNode <> :owner " +
+           "AND j.updatedAt < :before")
+    int failOrphaned(@Param("statuses") List<ResumeParseJob.Status> statuses,
+                     @Param("failed") ResumeParseJob.Status failed,
+                     @Param("error") String error,
+                     @Param("owner") String owner,
+                     @Param("before") LocalDateTime before,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ResumeParseJob j WHERE j.status IN :statuses AND j.finishedAt < :before")
+    int deleteFinishedBefore(@Param("statuses") List<ResumeParseJob.Status> statuses,
+                             @Param("before") LocalDateTime before);
+}
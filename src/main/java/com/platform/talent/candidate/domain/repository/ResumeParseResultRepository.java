@@ -0,0 +1,29 @@
+package com.platform.talent.candidate.domain.repository;
+
+import com.platform.talent.candidate.domain.model.ResumeParseResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ResumeParseResultRepository extends JpaRepository<ResumeParseResult, String> {
+
+    // Two workers parsing the same file concurrently both try to insert; the first one wins
+    @Modifying
+    @Query(value = "INSERT INTO ggj_resume_parse_cache (content_hash, parsed_data, file_size, created_at) " +
+                   "VALUES (:contentHash, CAST(:parsedData AS jsonb), :fileSize, :createdAt) " +
+                   "ON CONFLICT (content_hash) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("contentHash") String contentHash,
+                       @Param("parsedData") String parsedData,
+                       @Param("fileSize") long fileSize,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("DELETE FROM ResumeParseResult r WHERE r.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,75 @@
+package com.platform.talent.candidate.domain.repository;
+
+import com.platform.talent.candidate.domain.model.SkillTermKind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * ggj_skill_terms: one row per tenant, kind and normalized term.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SkillTermRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO ggj_skill_terms (tenant_id, kind, normalized_term, display_term) " +
+            "SELECT ?, ?, t.normalized_term, t.display_term " +
+            "FROM unnest(?, ?) WITH ORDINALITY AS t(normalized_term, display_term, ord) ORDER BY t.ord " +
+            "ON CONFLICT (tenant_id, kind, normalized_term) DO NOTHING";
+
+    // Compiled once; the skill index normalizes every skill it loads and every one it matches
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String SELECT_SQL = "SELECT id, kind, normalized_term, display_term FROM ggj_skill_terms ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Term(int id, SkillTermKind kind, String normalizedTerm, String displayTerm) {
+    }
+
+    // Same rule as the V10 backfill
+    public static String normalize(String term) {
+        return displayForm(term).toLowerCase(Locale.ROOT);
+    }
+
+    public static String displayForm(String term) {
+        return WHITESPACE.matcher(term).replaceAll(" ").strip();
+    }
+
+    public List<Term> findByTenantId(UUID tenantId) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE tenant_id = ?", (rs, row) -> new Term(
+                rs.getInt(1), SkillTermKind.valueOf(rs.getString(2)), rs.getString(3), rs.getString(4)), tenantId);
+    }
+
+    // Inserts the missing terms and returns every requested one; a concurrent insert of the
+    // same term waits for the other transaction and then reads its row. Rows are inserted in
+    // map order, so callers pass a sorted map to keep concurrent batches from deadlocking.
+    public List<Term> insertMissing(UUID tenantId, SkillTermKind kind, Map<String, String> displayByNormalized) {
+        Collection<String> normalized = displayByNormalized.keySet();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL);
+            ps.setObject(1, tenantId);
+            ps.setString(2, kind.name());
+            ps.setArray(3, connection.createArrayOf("text", normalized.toArray()));
+            ps.setArray(4, connection.createArrayOf("text", displayByNormalized.values().toArray()));
+            return ps;
+        });
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    SELECT_SQL + "WHERE tenant_id = ? AND kind = ? AND normalized_term = ANY(?)");
+            ps.setObject(1, tenantId);
+            ps.setString(2, kind.name());
+            ps.setArray(3, connection.createArrayOf("text", normalized.toArray()));
+            return ps;
+        }, (rs, row) -> new Term(
+                rs.getInt(1), SkillTermKind.valueOf(rs.getString(2)), rs.getString(3), rs.getString(4)));
+    }
+}
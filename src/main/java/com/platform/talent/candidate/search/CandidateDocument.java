@@ -21,7 +21,8 @@ import java.util.UUID;
 public class CandidateDocument {
 
     @Id
-    private String id;
+    @Field(type = FieldType.Keyword)
+    private String id; // Also mapped as a keyword so it can serve as the search_after tiebreaker
 
     @Field(type = FieldType.Keyword)
     private UUID tenantId;
@@ -0,0 +1,94 @@
+package com.platform.talent.candidate.search;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.json.JsonData;
+import com.platform.talent.candidate.api.dto.CandidateSearchCriteria;
+
+import java.util.List;
+
+/**
+ * Translates {@link CandidateSearchCriteria} into the Elasticsearch query shared by the
+ * paged, faceted and search_after search paths.
+ */
+public final class CandidateSearchQueries {
+
+    // Names weigh most, then title and skills; summary matches only break ties
+    private static final List<String> KEYWORD_FIELDS = List.of(
+            "firstName^3", "lastName^3", "currentPosition^2", "skills^2", "currentCompany", "summary");
+
+    private CandidateSearchQueries() {
+    }
+
+    // Only keywords are scored; everything else is a non-scoring filter, which ES can cache per segment
+    public static Query build(CandidateSearchCriteria criteria) {
+        if (criteria.getTenantId() == null) {
+            throw new RuntimeException("Tenant is required");
+        }
+        BoolQuery.Builder bool = new BoolQuery.Builder();
+        bool.filter(term("tenantId", criteria.getTenantId().toString()));
+
+        if (criteria.getKeywords() != null && !criteria.getKeywords().isBlank()) {
+            bool.must(q -> q.multiMatch(m -> m
+                    .query(criteria.getKeywords())
+                    .fields(KEYWORD_FIELDS)
+                    .type(TextQueryType.BestFields)
+                    .tieBreaker(0.3)));
+        }
+
+        if (criteria.getSkills() != null && !criteria.getSkills().isEmpty()) {
+            List<FieldValue> skills = criteria.getSkills().stream().map(FieldValue::of).toList();
+            bool.filter(q -> q.terms(t -> t.field("skills").terms(v -> v.value(skills))));
+        }
+
+        if (criteria.getLocation() != null && !criteria.getLocation().isBlank()) {
+            bool.filter(q -> q.match(m -> m.field("location").query(criteria.getLocation()).operator(Operator.And)));
+        }
+
+        if (criteria.getMinExperience() != null || criteria.getMaxExperience() != null) {
+            bool.filter(range("yearsOfExperience", criteria.getMinExperience(), criteria.getMaxExperience()));
+        }
+
+        if (criteria.getMinSalary() != null || criteria.getMaxSalary() != null) {
+            bool.filter(range("expectedSalary", criteria.getMinSalary(), criteria.getMaxSalary()));
+        }
+
+        if (Boolean.TRUE.equals(criteria.getIsRemoteInterested())) {
+            bool.filter(q -> q.term(t -> t.field("isRemoteInterested").value(true)));
+        }
+
+        if (Boolean.TRUE.equals(criteria.getIsRelocationInterested())) {
+            bool.filter(q -> q.term(t -> t.field("isRelocationInterested").value(true)));
+        }
+
+        if (criteria.getStatus() != null && !criteria.getStatus().isBlank()) {
+            bool.filter(term("status", criteria.getStatus()));
+        }
+
+        if (criteria.getPipelineStage() != null && !criteria.getPipelineStage().isBlank()) {
+            bool.filter(term("pipelineStage", criteria.getPipelineStage()));
+        }
+
+        return bool.build()._toQuery();
+    }
+
+    private static Query term(String field, String value) {
+        return Query.of(q -> q.term(t -> t.field(field).value(value)));
+    }
+
+    private static Query range(String field, Number min, Number max) {
+        return Query.of(q -> q.range(r -> {
+            r.field(field);
+            if (min != null) {
+                r.gte(JsonData.of(min));
+            }
+            if (max != null) {
+                r.lte(JsonData.of(max));
+            }
+            return r;
+        }));
+    }
+}
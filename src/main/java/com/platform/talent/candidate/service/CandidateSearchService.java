@@ -1,22 +1,51 @@
 package com.platform.talent.candidate.service;
 
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.HistogramBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.candidate.api.dto.CandidateFacetedSearchResponse;
 import com.platform.talent.candidate.api.dto.CandidateSearchCriteria;
+import com.platform.talent.candidate.api.dto.CursorPageResponse;
 import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.repository.CandidateRepository;
+import com.platform.talent.candidate.domain.repository.CandidateRepositoryCustom;
 import com.platform.talent.candidate.search.CandidateDocument;
+import com.platform.talent.candidate.search.CandidateSearchQueries;
 import com.platform.talent.candidate.search.CandidateSearchRepository;
+import com.platform.talent.candidate.service.indexing.CandidateIndexingQueue;
+import com.platform.talent.candidate.service.mapping.CandidateMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.AggregationsContainer;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
-import org.springframework.data.elasticsearch.core.query.Criteria;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -24,142 +53,266 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CandidateSearchService {
 
+    private static final int MAX_SCROLL_LIMIT = 500;
+
+    // Facet name -> keyword field for terms facets; histogram facets are added separately
+    private static final Map<String, String> TERMS_FACETS = Map.of(
+            "skills", "skills",
+            "city", "city",
+            "country", "country",
+            "status", "status",
+            "pipelineStage", "pipelineStage");
+
+    @Value("${candidate.search.facets.size:20}")
+    private int facetSize;
+
+    @Value("${candidate.search.facets.experience-interval:2}")
+    private double experienceInterval;
+
+    @Value("${candidate.search.facets.salary-interval:10000}")
+    private double salaryInterval;
+
     @Autowired(required = false)
     private CandidateSearchRepository searchRepository;
     
     @Autowired(required = false)
     private ElasticsearchOperations elasticsearchOperations;
 
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private CandidateIndexingQueue indexingQueue;
+
+    @Autowired
+    private CandidateMapper candidateMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     public void indexCandidate(Candidate candidate) {
-        if (searchRepository == null) {
+        if (!indexingQueue.isEnabled()) {
             log.debug("Search repository not available, skipping indexing");
             return;
         }
-        try {
-            CandidateDocument document = mapToDocument(candidate);
-            searchRepository.save(document);
-            log.info("Indexed candidate: {}", candidate.getId());
-        } catch (Exception e) {
-            log.error("Failed to index candidate: {}", candidate.getId(), e);
+        indexingQueue.enqueueIndex(List.of(candidate), this::mapToDocument);
+        log.debug("Queued candidate for indexing: {}", candidate.getId());
+    }
+
+    public void indexCandidates(Collection<Candidate> candidates) {
+        if (!indexingQueue.isEnabled() || candidates.isEmpty()) {
+            return;
         }
+        indexingQueue.enqueueIndex(candidates, this::mapToDocument);
+        log.debug("Queued {} candidates for indexing", candidates.size());
     }
 
     public void deleteFromIndex(UUID candidateId) {
-        if (searchRepository == null) {
+        if (!indexingQueue.isEnabled()) {
             log.debug("Search repository not available, skipping delete");
             return;
         }
+        indexingQueue.enqueueDelete(candidateId.toString());
+        log.debug("Queued candidate for index removal: {}", candidateId);
+    }
+
+    public Page<CandidateDocument> searchCandidates(CandidateSearchCriteria criteria, Pageable pageable) {
+        if (elasticsearchOperations == null) {
+            log.debug("Elasticsearch not available, searching Postgres");
+            return candidateRepository.fullTextSearch(criteria, pageable).map(this::mapToDocument);
+        }
         try {
-            searchRepository.deleteById(candidateId.toString());
-            log.info("Removed candidate from index: {}", candidateId);
+            NativeQuery query = NativeQuery.builder()
+                    .withQuery(CandidateSearchQueries.build(criteria))
+                    .withPageable(pageable)
+                    .build();
+            SearchHits<CandidateDocument> searchHits = elasticsearchOperations.search(query, CandidateDocument.class);
+
+            List<CandidateDocument> candidates = searchHits.stream()
+                    .map(SearchHit::getContent)
+                    .collect(Collectors.toList());
+
+            return new PageImpl<>(candidates, pageable, searchHits.getTotalHits());
         } catch (Exception e) {
-            log.error("Failed to remove candidate from index: {}", candidateId, e);
+            log.error("Failed to search candidates", e);
+            return Page.empty(pageable);
         }
     }
 
-    public Page<CandidateDocument> searchCandidates(CandidateSearchCriteria criteria, Pageable pageable) {
+    // Hits and every facet in a single search request; aggregations see the same filters as the hits
+    public CandidateFacetedSearchResponse searchCandidatesWithFacets(CandidateSearchCriteria criteria, Pageable pageable) {
         if (elasticsearchOperations == null) {
-            log.debug("Elasticsearch not available, returning empty results");
-            return Page.empty(pageable);
+            log.debug("Elasticsearch not available, searching Postgres without facets");
+            return toFacetedResponse(searchCandidates(criteria, pageable), Map.of());
         }
         try {
-            Criteria elasticCriteria = Criteria.where("tenantId").is(criteria.getTenantId());
-
-            if (criteria.getKeywords() != null && !criteria.getKeywords().isEmpty()) {
-                elasticCriteria = elasticCriteria.and(
-                    Criteria.where("firstName").contains(criteria.getKeywords())
-                        .or("lastName").contains(criteria.getKeywords())
-                        .or("summary").contains(criteria.getKeywords())
-                        .or("currentPosition").contains(criteria.getKeywords())
-                );
-            }
+            NativeQueryBuilder builder = NativeQuery.builder()
+                    .withQuery(CandidateSearchQueries.build(criteria))
+                    .withPageable(pageable);
+            TERMS_FACETS.forEach((name, field) -> builder.withAggregation(name,
+                    Aggregation.of(a -> a.terms(t -> t.field(field).size(facetSize)))));
+            builder.withAggregation("yearsOfExperience",
+                    Aggregation.of(a -> a.histogram(h -> h.field("yearsOfExperience").interval(experienceInterval))));
+            builder.withAggregation("expectedSalary",
+                    Aggregation.of(a -> a.histogram(h -> h.field("expectedSalary").interval(salaryInterval))));
 
-            if (criteria.getSkills() != null && !criteria.getSkills().isEmpty()) {
-                elasticCriteria = elasticCriteria.and(
-                    Criteria.where("skills").in(criteria.getSkills())
-                );
-            }
+            SearchHits<CandidateDocument> searchHits = elasticsearchOperations.search(builder.build(), CandidateDocument.class);
+            Page<CandidateDocument> page = new PageImpl<>(
+                    searchHits.stream().map(SearchHit::getContent).collect(Collectors.toList()),
+                    pageable, searchHits.getTotalHits());
+            return toFacetedResponse(page, toFacets(searchHits.getAggregations()));
+        } catch (Exception e) {
+            log.error("Failed to search candidates", e);
+            return toFacetedResponse(Page.empty(pageable), Map.of());
+        }
+    }
 
-            if (criteria.getLocation() != null) {
-                elasticCriteria = elasticCriteria.and(
-                    Criteria.where("location").contains(criteria.getLocation())
-                );
+    public CursorPageResponse<CandidateDocument> searchCandidatesAfter(CandidateSearchCriteria criteria,
+                                                                       String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_SCROLL_LIMIT));
+        if (elasticsearchOperations == null) {
+            log.debug("Elasticsearch not available, scrolling Postgres");
+            return searchPostgresAfter(criteria, cursor, size);
+        }
+        // Decode outside the try so a malformed cursor surfaces as an error, not an empty page
+        List<Object> searchAfter = cursor == null || cursor.isBlank() ? null : decodeSearchAfter(cursor);
+        try {
+            // search_after needs a total order: relevance or recency, then the keyword id
+            boolean ranked = criteria.getKeywords() != null && !criteria.getKeywords().isBlank();
+            NativeQueryBuilder builder = NativeQuery.builder()
+                    .withQuery(CandidateSearchQueries.build(criteria))
+                    .withSort(ranked
+                            ? Sort.by(Sort.Order.desc("_score"), Sort.Order.asc("id"))
+                            : Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id")))
+                    .withPageable(PageRequest.of(0, size + 1))
+                    .withTrackTotalHits(false);
+            if (searchAfter != null) {
+                builder.withSearchAfter(searchAfter);
             }
+            NativeQuery query = builder.build();
 
-            if (criteria.getMinExperience() != null) {
-                elasticCriteria = elasticCriteria.and(
-                    Criteria.where("yearsOfExperience").greaterThanEqual(criteria.getMinExperience())
-                );
-            }
+            List<SearchHit<CandidateDocument>> hits = elasticsearchOperations
+                    .search(query, CandidateDocument.class)
+                    .getSearchHits();
+            boolean hasNext = hits.size() > size;
+            List<SearchHit<CandidateDocument>> page = hasNext ? hits.subList(0, size) : hits;
 
-            if (criteria.getMaxExperience() != null) {
-                elasticCriteria = elasticCriteria.and(
-                    Criteria.where("yearsOfExperience").lessThanEqual(criteria.getMaxExperience())
-                );
-            }
+            return CursorPageResponse.<CandidateDocument>builder()
+                    .content(page.stream().map(SearchHit::getContent).collect(Collectors.toList()))
+                    .size(page.size())
+                    .hasNext(hasNext)
+                    .nextCursor(hasNext ? encodeSearchAfter(page.get(page.size() - 1).getSortValues()) : null)
+                    .build();
+        } catch (Exception e) {
+            log.error("Failed to search candidates", e);
+            return emptyCursorPage();
+        }
+    }
 
-            if (criteria.getIsRemoteInterested() != null && criteria.getIsRemoteInterested()) {
-                elasticCriteria = elasticCriteria.and(
-                    Criteria.where("isRemoteInterested").is(true)
-                );
-            }
+    // Postgres cursors carry [rank, createdAt, id] with keywords and [createdAt, id] without
+    private CursorPageResponse<CandidateDocument> searchPostgresAfter(CandidateSearchCriteria criteria,
+                                                                      String cursor, int size) {
+        boolean ranked = criteria.getKeywords() != null && !criteria.getKeywords().isBlank();
+        CandidateRepositoryCustom.SearchPosition after =
+                cursor == null || cursor.isBlank() ? null : decodePosition(cursor, ranked);
 
-            if (criteria.getMinSalary() != null) {
-                elasticCriteria = elasticCriteria.and(
-                    Criteria.where("expectedSalary").greaterThanEqual(criteria.getMinSalary())
-                );
-            }
+        List<CandidateRepositoryCustom.RankedCandidate> rows = candidateRepository.fullTextSearchAfter(criteria, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<CandidateRepositoryCustom.RankedCandidate> page = hasNext ? rows.subList(0, size) : rows;
+        try {
+            return CursorPageResponse.<CandidateDocument>builder()
+                    .content(page.stream().map(row -> mapToDocument(row.candidate())).collect(Collectors.toList()))
+                    .size(page.size())
+                    .hasNext(hasNext)
+                    .nextCursor(hasNext ? encodeSearchAfter(positionValues(page.get(page.size() - 1).position())) : null)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to encode cursor", e);
+        }
+    }
+
+    private static List<Object> positionValues(CandidateRepositoryCustom.SearchPosition position) {
+        List<Object> values = new ArrayList<>();
+        if (position.rank() != null) {
+            values.add(position.rank());
+        }
+        values.add(position.createdAt().toString());
+        values.add(position.id().toString());
+        return values;
+    }
 
-            if (criteria.getMaxSalary() != null) {
-                elasticCriteria = elasticCriteria.and(
-                    Criteria.where("expectedSalary").lessThanEqual(criteria.getMaxSalary())
-                );
+    private CandidateRepositoryCustom.SearchPosition decodePosition(String cursor, boolean ranked) {
+        List<Object> values = decodeSearchAfter(cursor);
+        if (values.size() != (ranked ? 3 : 2)) {
+            throw new RuntimeException("Invalid cursor");
+        }
+        try {
+            int at = 0;
+            Float rank = ranked ? ((Number) values.get(at++)).floatValue() : null;
+            LocalDateTime createdAt = LocalDateTime.parse((String) values.get(at++));
+            UUID id = UUID.fromString((String) values.get(at));
+            return new CandidateRepositoryCustom.SearchPosition(rank, createdAt, id);
+        } catch (ClassCastException | NullPointerException | DateTimeParseException | IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor", e);
+        }
+    }
+
+    private static Map<String, List<CandidateFacetedSearchResponse.FacetBucket>> toFacets(AggregationsContainer<?> container) {
+        Map<String, List<CandidateFacetedSearchResponse.FacetBucket>> facets = new LinkedHashMap<>();
+        if (!(container instanceof ElasticsearchAggregations aggregations)) {
+            return facets;
+        }
+        for (ElasticsearchAggregation aggregation : aggregations.aggregations()) {
+            Aggregate aggregate = aggregation.aggregation().getAggregate();
+            List<CandidateFacetedSearchResponse.FacetBucket> buckets = new ArrayList<>();
+            if (aggregate.isSterms()) {
+                for (StringTermsBucket bucket : aggregate.sterms().buckets().array()) {
+                    buckets.add(new CandidateFacetedSearchResponse.FacetBucket(bucket.key().stringValue(), bucket.docCount()));
+                }
+            } else if (aggregate.isHistogram()) {
+                for (HistogramBucket bucket : aggregate.histogram().buckets().array()) {
+                    String key = BigDecimal.valueOf(bucket.key()).stripTrailingZeros().toPlainString();
+                    buckets.add(new CandidateFacetedSearchResponse.FacetBucket(key, bucket.docCount()));
+                }
             }
+            facets.put(aggregation.aggregation().getName(), buckets);
+        }
+        return facets;
+    }
 
-            CriteriaQuery query = new CriteriaQuery(elasticCriteria).setPageable(pageable);
-            SearchHits<CandidateDocument> searchHits = elasticsearchOperations.search(query, CandidateDocument.class);
+    private static CandidateFacetedSearchResponse toFacetedResponse(
+            Page<CandidateDocument> page, Map<String, List<CandidateFacetedSearchResponse.FacetBucket>> facets) {
+        return CandidateFacetedSearchResponse.builder()
+                .content(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .facets(facets)
+                .build();
+    }
 
-            List<CandidateDocument> candidates = searchHits.stream()
-                    .map(SearchHit::getContent)
-                    .collect(Collectors.toList());
+    private String encodeSearchAfter(List<Object> sortValues) throws JsonProcessingException {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(sortValues));
+    }
 
-            return new PageImpl<>(candidates, pageable, searchHits.getTotalHits());
-        } catch (Exception e) {
-            log.error("Failed to search candidates", e);
-            return Page.empty(pageable);
+    private List<Object> decodeSearchAfter(String cursor) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), new TypeReference<List<Object>>() {});
+        } catch (IOException | IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor", e);
         }
     }
 
-    private CandidateDocument mapToDocument(Candidate candidate) {
-        return CandidateDocument.builder()
-                .id(candidate.getId().toString())
-                .tenantId(candidate.getTenantId())
-                .firstName(candidate.getFirstName())
-                .lastName(candidate.getLastName())
-                .email(candidate.getEmail())
-                .phone(candidate.getPhone())
-                .location(candidate.getLocation())
-                .city(candidate.getCity())
-                .country(candidate.getCountry())
-                .status(candidate.getStatus().name())
-                .pipelineStage(candidate.getPipelineStage() != null ? candidate.getPipelineStage().name() : null)
-                .summary(candidate.getSummary())
-                .yearsOfExperience(candidate.getYearsOfExperience())
-                .currentCompany(candidate.getCurrentCompany())
-                .currentPosition(candidate.getCurrentPosition())
-                .skills(candidate.getSkills())
-                .certifications(candidate.getCertifications())
-                .languages(candidate.getLanguages())
-                .source(candidate.getSource())
-                .expectedSalary(candidate.getExpectedSalary())
-                .salaryCurrency(candidate.getSalaryCurrency())
-                .isAvailable(candidate.getIsAvailable())
-                .isRemoteInterested(candidate.getIsRemoteInterested())
-                .isRelocationInterested(candidate.getIsRelocationInterested())
-                .rating(candidate.getRating())
-                .createdAt(candidate.getCreatedAt())
-                .updatedAt(candidate.getUpdatedAt())
+    private static CursorPageResponse<CandidateDocument> emptyCursorPage() {
+        return CursorPageResponse.<CandidateDocument>builder()
+                .content(List.of())
+                .size(0)
+                .hasNext(false)
                 .build();
     }
+
+    public CandidateDocument mapToDocument(Candidate candidate) {
+        return candidateMapper.toDocument(candidate);
+    }
 }
 
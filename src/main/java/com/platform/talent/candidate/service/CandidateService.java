@@ -2,55 +2,123 @@ package com.platform.talent.candidate.service;
 
 import com.platform.talent.candidate.api.dto.*;
 import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.CandidateDetails;
 import com.platform.talent.candidate.domain.model.CandidateStatus;
 import com.platform.talent.candidate.domain.model.PipelineStage;
+import com.platform.talent.candidate.domain.repository.CandidateDetailsRepository;
+import com.platform.talent.candidate.domain.repository.CandidateJdbcRepository;
 import com.platform.talent.candidate.domain.repository.CandidateRepository;
-import com.platform.talent.candidate.service.integration.ResumeParserService;
+import com.platform.talent.candidate.service.cache.CandidateCache;
+import com.platform.talent.candidate.service.counter.CandidateCounterService;
+import com.platform.talent.candidate.service.email.CandidateEmailFilter;
+import com.platform.talent.candidate.service.event.CandidateEventPublisher;
+import com.platform.talent.candidate.service.mapping.CandidateMapper;
+import com.platform.talent.candidate.service.pagination.KeysetCursor;
+import com.platform.talent.candidate.service.skill.SkillDictionary;
+import com.platform.talent.candidate.service.sweep.StaleCandidateAction;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @Slf4j
 public class CandidateService {
 
+    private static final int MAX_SCROLL_LIMIT = 500;
+
     private final CandidateRepository candidateRepository;
+    private final CandidateJdbcRepository candidateJdbcRepository;
+    private final CandidateDetailsRepository detailsRepository;
     
     @Autowired(required = false)
     private CandidateSearchService searchService;
     
-    private final ResumeParserService resumeParserService;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final CandidateEventPublisher eventPublisher;
+    private final CandidateMapper candidateMapper;
+    private final CandidateCache candidateCache;
+    private final CandidateCounterService counterService;
+    private final CandidateEmailFilter emailFilter;
+    private final SkillDictionary skillDictionary;
     
     public CandidateService(
         CandidateRepository candidateRepository,
-        ResumeParserService resumeParserService,
-        KafkaTemplate<String, Object> kafkaTemplate
+        CandidateJdbcRepository candidateJdbcRepository,
+        CandidateDetailsRepository detailsRepository,
+        CandidateEventPublisher eventPublisher,
+        CandidateMapper candidateMapper,
+        CandidateCache candidateCache,
+        CandidateCounterService counterService,
+        CandidateEmailFilter emailFilter,
+        SkillDictionary skillDictionary
     ) {
         this.candidateRepository = candidateRepository;
-        this.resumeParserService = resumeParserService;
-        this.kafkaTemplate = kafkaTemplate;
+        this.candidateJdbcRepository = candidateJdbcRepository;
+        this.detailsRepository = detailsRepository;
+        this.eventPublisher = eventPublisher;
+        this.candidateMapper = candidateMapper;
+        this.candidateCache = candidateCache;
+        this.counterService = counterService;
+        this.emailFilter = emailFilter;
+        this.skillDictionary = skillDictionary;
     }
 
     @Transactional
     public CandidateResponse createCandidate(UUID tenantId, CreateCandidateRequest request) {
         log.info("Creating candidate for tenant: {}", tenantId);
 
-        // Check for duplicate email
-        if (candidateRepository.existsByEmailAndTenantId(request.getEmail(), tenantId)) {
+        // Check for duplicate email; most new emails are ruled out without a query
+        if (emailFilter.exists(tenantId, request.getEmail())) {
             throw new RuntimeException("Candidate with email " + request.getEmail() + " already exists");
         }
 
-        Candidate candidate = Candidate.builder()
+        Candidate candidate = newCandidate(tenantId, request);
+        skillDictionary.intern(tenantId, List.of(candidate));
+
+        // Flushed here so a duplicate the filter could not see yet (another replica's
+        // recent insert) surfaces as the same error instead of failing at commit
+        try {
+            candidate = candidateRepository.saveAndFlush(candidate);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("Candidate with email " + request.getEmail() + " already exists", e);
+        }
+        CandidateDetails details = newDetails(request);
+        if (details != null) {
+            details.setCandidate(candidate);
+            details = detailsRepository.save(details);
+        }
+        emailFilter.addAfterCommit(tenantId, List.of(candidate.getEmail()));
+        counterService.recordCreated(tenantId, List.of(candidate));
+
+        // Index in Elasticsearch
+        searchService.indexCandidate(candidate);
+
+        // Record event in the outbox, relayed to Kafka after commit
+        publishCandidateEvent("candidate.created", candidate);
+
+        log.info("Candidate created: {}", candidate.getId());
+        return candidateMapper.toResponse(candidate, details);
+    }
+
+    public Candidate newCandidate(UUID tenantId, CreateCandidateRequest request) {
+        return Candidate.builder()
                 .tenantId(tenantId)
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
@@ -71,11 +139,8 @@ public class CandidateService {
                 .salaryCurrency(request.getSalaryCurrency())
                 .noticePeriodDays(request.getNoticePeriodDays())
                 .skills(request.getSkills())
-                .education(request.getEducation())
-                .workExperience(request.getWorkExperience())
                 .certifications(request.getCertifications())
                 .languages(request.getLanguages())
-                .customFields(request.getCustomFields())
                 .linkedinUrl(request.getLinkedinUrl())
                 .githubUrl(request.getGithubUrl())
                 .portfolioUrl(request.getPortfolioUrl())
@@ -83,48 +148,84 @@ public class CandidateService {
                 .isRemoteInterested(request.getIsRemoteInterested())
                 .isRelocationInterested(request.getIsRelocationInterested())
                 .build();
+    }
 
-        candidate = candidateRepository.save(candidate);
+    // Null when the request carries none of the CandidateDetails parts
+    private static CandidateDetails newDetails(CreateCandidateRequest request) {
+        CandidateDetails details = CandidateDetails.builder()
+                .education(request.getEducation())
+                .workExperience(request.getWorkExperience())
+                .customFields(request.getCustomFields())
+                .build();
+        return details.isEmpty() ? null : details;
+    }
 
-        // Index in Elasticsearch
-        searchService.indexCandidate(candidate);
+    // Called by resume parse workers once the AI parser has returned; only this write is transactional
+    @Transactional
+    public CandidateResponse applyParsedResume(UUID tenantId, UUID candidateId, Map<String, Object> parsedData) {
+        Candidate candidate = candidateRepository.findByIdAndTenantId(candidateId, tenantId)
+                .orElseThrow(() -> new RuntimeException("Candidate not found"));
 
-        // Publish Kafka event
-        publishCandidateEvent("candidate.created", candidate);
+        CandidateDetails details = detailsRepository.findById(candidateId)
+                .orElseGet(() -> CandidateDetails.builder().candidate(candidate).build());
+        applyResumeFields(candidate, details, parsedData);
+        skillDictionary.intern(tenantId, List.of(candidate));
 
-        log.info("Candidate created: {}", candidate.getId());
-        return mapToResponse(candidate);
+        Candidate saved = candidateRepository.save(candidate);
+        details = detailsRepository.save(details);
+        candidateCache.evict(tenantId, candidateId);
+
+        // Re-index with updated data
+        searchService.indexCandidate(saved);
+
+        publishCandidateEvent("candidate.updated", saved);
+
+        log.info("Parsed resume applied to candidate: {}", candidateId);
+        return candidateMapper.toResponse(saved, details);
     }
 
+    // Batch form of applyParsedResume: one read, one saveAll, one bulk reindex; returns the ids applied
     @Transactional
-    public CandidateResponse uploadResume(UUID tenantId, UUID candidateId, MultipartFile resume) {
-        log.info("Uploading resume for candidate: {}", candidateId);
-
-        Candidate candidate = candidateRepository.findByIdAndTenantId(candidateId, tenantId)
-                .orElseThrow(() -> new RuntimeException("Candidate not found"));
+    public Set<UUID> applyParsedResumes(UUID tenantId, Map<UUID, Map<String, Object>> parsedByCandidate) {
+        List<Candidate> candidates = candidateRepository.findAllByTenantIdAndIdIn(tenantId, parsedByCandidate.keySet());
+        Map<UUID, CandidateDetails> details = new HashMap<>();
+        for (CandidateDetails existing : detailsRepository.findAllById(
+                candidates.stream().map(Candidate::getId).toList())) {
+            details.put(existing.getCandidateId(), existing);
+        }
+        for (Candidate candidate : candidates) {
+            CandidateDetails candidateDetails = details.computeIfAbsent(candidate.getId(),
+                    id -> CandidateDetails.builder().candidate(candidate).build());
+            applyResumeFields(candidate, candidateDetails, parsedByCandidate.get(candidate.getId()));
+        }
+        skillDictionary.intern(tenantId, candidates);
+
+        candidates = candidateRepository.saveAll(candidates);
+        detailsRepository.saveAll(details.values());
+        Set<UUID> applied = new HashSet<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            candidateCache.evict(tenantId, candidate.getId());
+            applied.add(candidate.getId());
+        }
+        searchService.indexCandidates(candidates);
+        eventPublisher.publishAll("candidate.updated", candidates);
+        return applied;
+    }
 
-        // Parse resume using AI service
-        Map<String, Object> parsedData = resumeParserService.parseResume(candidateId, resume);
-        candidate.setResumeData(parsedData);
+    @SuppressWarnings("unchecked")
+    private static void applyResumeFields(Candidate candidate, CandidateDetails details, Map<String, Object> parsedData) {
+        details.setResumeData(parsedData);
 
         // Extract and update fields from parsed resume
         if (parsedData.containsKey("skills")) {
-            candidate.setSkills((java.util.List<String>) parsedData.get("skills"));
+            candidate.setSkills((List<String>) parsedData.get("skills"));
         }
         if (parsedData.containsKey("yearsOfExperience")) {
             candidate.setYearsOfExperience(((Number) parsedData.get("yearsOfExperience")).intValue());
         }
         if (parsedData.containsKey("education")) {
-            candidate.setEducation((Map<String, Object>) parsedData.get("education"));
+            details.setEducation((Map<String, Object>) parsedData.get("education"));
         }
-
-        candidate = candidateRepository.save(candidate);
-
-        // Re-index with updated data
-        searchService.indexCandidate(candidate);
-
-        log.info("Resume uploaded and parsed for candidate: {}", candidateId);
-        return mapToResponse(candidate);
     }
 
     @Transactional
@@ -134,24 +235,23 @@ public class CandidateService {
         Candidate candidate = candidateRepository.findByIdAndTenantId(candidateId, tenantId)
                 .orElseThrow(() -> new RuntimeException("Candidate not found"));
 
+        CandidateStatus oldStatus = candidate.getStatus();
+        PipelineStage oldStage = candidate.getPipelineStage();
         candidate.updateStage(newStage);
 
         // Update status based on stage
-        if (newStage == PipelineStage.SCREENING || newStage == PipelineStage.PHONE_SCREEN) {
-            candidate.setStatus(CandidateStatus.SCREENING);
-        } else if (newStage == PipelineStage.INTERVIEW_SCHEDULED || newStage == PipelineStage.INTERVIEW_COMPLETED) {
-            candidate.setStatus(CandidateStatus.INTERVIEWING);
-        } else if (newStage == PipelineStage.OFFER_EXTENDED) {
-            candidate.setStatus(CandidateStatus.OFFER_EXTENDED);
-        } else if (newStage == PipelineStage.OFFER_ACCEPTED) {
-            candidate.setStatus(CandidateStatus.HIRED);
-        } else if (newStage == PipelineStage.REJECTED) {
-            candidate.setStatus(CandidateStatus.REJECTED);
-        } else if (newStage == PipelineStage.WITHDRAWN) {
-            candidate.setStatus(CandidateStatus.WITHDRAWN);
-        }
-
-        candidateRepository.save(candidate);
+        CandidateStatus newStatus = statusForStage(newStage);
+        if (newStatus != null) {
+            candidate.setStatus(newStatus);
+        }
+        counterService.recordTransitions(tenantId, List.of(
+                new CandidateCounterService.Transition(oldStatus, oldStage, candidate.getStatus(), newStage)));
+
+        candidate = candidateRepository.save(candidate);
+        candidateCache.evict(tenantId, candidateId);
+
+        // Keep status/stage filters in the search index current
+        searchService.indexCandidate(candidate);
 
         // Publish event
         publishCandidateEvent("candidate.stage.changed", candidate);
@@ -159,11 +259,102 @@ public class CandidateService {
         log.info("Candidate moved to stage: {}", newStage);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
+    public BulkStageUpdateResponse bulkMoveToPipelineStage(UUID tenantId, BulkStageUpdateRequest request) {
+        PipelineStage newStage = request.getStage();
+        // Repeated ids: the last expectedVersion given wins
+        Map<UUID, Long> targets = new LinkedHashMap<>();
+        for (BulkStageUpdateRequest.Target target : request.getCandidates()) {
+            targets.put(target.getId(), target.getExpectedVersion());
+        }
+        log.info("Moving {} candidates to stage: {}", targets.size(), newStage);
+
+        List<UUID> ids = new ArrayList<>(targets.keySet());
+        List<Long> versions = new ArrayList<>(targets.values());
+        CandidateStatus newStatus = statusForStage(newStage);
+        List<CandidateJdbcRepository.StageChange> changes = candidateJdbcRepository.updateStage(
+                tenantId, ids, versions, newStage, newStatus, LocalDateTime.now());
+        List<UUID> updatedIds = changes.stream().map(CandidateJdbcRepository.StageChange::id).toList();
+        counterService.recordTransitions(tenantId, changes.stream()
+                .map(change -> new CandidateCounterService.Transition(change.oldStatus(), change.oldStage(),
+                        newStatus != null ? newStatus : change.oldStatus(), newStage))
+                .toList());
+
+        // The UPDATE bypassed the persistence context, so load the new state for the index and events
+        List<Candidate> updated = updatedIds.isEmpty()
+                ? List.of()
+                : candidateRepository.findAllByTenantIdAndIdIn(tenantId, updatedIds);
+        for (Candidate candidate : updated) {
+            candidateCache.evict(tenantId, candidate.getId());
+        }
+        searchService.indexCandidates(updated);
+        eventPublisher.publishAll("candidate.stage.changed", updated);
+
+        Set<UUID> remaining = new HashSet<>(targets.keySet());
+        updatedIds.forEach(remaining::remove);
+        Set<UUID> conflicts = remaining.isEmpty()
+                ? Set.of()
+                : new HashSet<>(candidateRepository.findExistingIds(tenantId, remaining));
+
+        return BulkStageUpdateResponse.builder()
+                .stage(newStage.name())
+                .updated(updatedIds)
+                .conflicts(ids.stream().filter(conflicts::contains).toList())
+                .notFound(ids.stream().filter(id -> remaining.contains(id) && !conflicts.contains(id)).toList())
+                .build();
+    }
+
+    // Called by the stale sweeper with ids it has already locked; may span tenants
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyStaleAction(Collection<UUID> candidateIds, StaleCandidateAction action) {
+        List<Candidate> candidates = candidateRepository.findAllById(candidateIds);
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, List<CandidateCounterService.Transition>> transitions = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            if (action == StaleCandidateAction.ARCHIVE) {
+                transitions.computeIfAbsent(candidate.getTenantId(), tenantId -> new ArrayList<>())
+                        .add(new CandidateCounterService.Transition(candidate.getStatus(), candidate.getPipelineStage(),
+                                CandidateStatus.ARCHIVED, candidate.getPipelineStage()));
+                candidate.setStatus(CandidateStatus.ARCHIVED);
+            }
+            candidate.setStaleFlaggedAt(now);
+            candidateCache.evict(candidate.getTenantId(), candidate.getId());
+        }
+        transitions.forEach(counterService::recordTransitions);
+
+        candidates = candidateRepository.saveAll(candidates);
+        switch (action) {
+            case ARCHIVE -> {
+                searchService.indexCandidates(candidates);
+                eventPublisher.publishAll("candidate.archived", candidates);
+            }
+            case FLAG -> eventPublisher.publishAll("candidate.stale.flagged", candidates);
+            case REMIND -> eventPublisher.publishAll("candidate.contact.reminder", candidates);
+        }
+    }
+
+    // Stage changes that imply a status change; null keeps the current status
+    static CandidateStatus statusForStage(PipelineStage stage) {
+        return switch (stage) {
+            case SCREENING, PHONE_SCREEN -> CandidateStatus.SCREENING;
+            case INTERVIEW_SCHEDULED, INTERVIEW_COMPLETED -> CandidateStatus.INTERVIEWING;
+            case OFFER_EXTENDED -> CandidateStatus.OFFER_EXTENDED;
+            case OFFER_ACCEPTED -> CandidateStatus.HIRED;
+            case REJECTED -> CandidateStatus.REJECTED;
+            case WITHDRAWN -> CandidateStatus.WITHDRAWN;
+            default -> null;
+        };
+    }
+
+    // Not transactional: a cache hit should not check out a connection.
+    // The only read that loads CandidateDetails; list views leave those parts out.
     public CandidateResponse getCandidate(UUID tenantId, UUID candidateId) {
-        Candidate candidate = candidateRepository.findByIdAndTenantId(candidateId, tenantId)
-                .orElseThrow(() -> new RuntimeException("Candidate not found"));
-        return mapToResponse(candidate);
+        return candidateCache.get(tenantId, candidateId, () -> {
+            Candidate candidate = candidateRepository.findByIdAndTenantId(candidateId, tenantId)
+                    .orElseThrow(() -> new RuntimeException("Candidate not found"));
+            CandidateDetails details = detailsRepository.findById(candidateId).orElse(null);
+            return candidateMapper.toResponse(candidate, details);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -177,6 +368,55 @@ public class CandidateService {
         return candidates.map(this::mapToResponse);
     }
 
+    @Transactional(readOnly = true)
+    public Page<CandidateSummaryResponse> listCandidateSummaries(UUID tenantId, CandidateStatus status, Pageable pageable) {
+        if (status != null) {
+            return candidateRepository.findSummariesByTenantIdAndStatus(tenantId, status, pageable);
+        }
+        return candidateRepository.findSummariesByTenantId(tenantId, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CandidateResponse> scrollCandidates(UUID tenantId, CandidateStatus status,
+                                                                  String cursor, int limit) {
+        // One extra row tells us whether another page exists without a COUNT query
+        Pageable window = PageRequest.of(0, clampLimit(limit) + 1);
+        List<Candidate> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = status == null
+                    ? candidateRepository.findFirstSlice(tenantId, window)
+                    : candidateRepository.findFirstSliceByStatus(tenantId, status, window);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = status == null
+                    ? candidateRepository.findSliceAfter(tenantId, position.getCreatedAt(), position.getId(), window)
+                    : candidateRepository.findSliceByStatusAfter(tenantId, status,
+                            position.getCreatedAt(), position.getId(), window);
+        }
+        return toCursorPage(rows, clampLimit(limit), this::mapToResponse,
+                candidate -> KeysetCursor.encode(candidate.getCreatedAt(), candidate.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CandidateSummaryResponse> scrollCandidateSummaries(UUID tenantId, CandidateStatus status,
+                                                                                String cursor, int limit) {
+        Pageable window = PageRequest.of(0, clampLimit(limit) + 1);
+        List<CandidateSummaryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = status == null
+                    ? candidateRepository.findFirstSummarySlice(tenantId, window)
+                    : candidateRepository.findFirstSummarySliceByStatus(tenantId, status, window);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = status == null
+                    ? candidateRepository.findSummarySliceAfter(tenantId, position.getCreatedAt(), position.getId(), window)
+                    : candidateRepository.findSummarySliceByStatusAfter(tenantId, status,
+                            position.getCreatedAt(), position.getId(), window);
+        }
+        return toCursorPage(rows, clampLimit(limit), Function.identity(),
+                summary -> KeysetCursor.encode(summary.getCreatedAt(), summary.getId()));
+    }
+
     @Transactional
     public void deleteCandidate(UUID tenantId, UUID candidateId) {
         log.info("Deleting candidate: {}", candidateId);
@@ -185,66 +425,43 @@ public class CandidateService {
                 .orElseThrow(() -> new RuntimeException("Candidate not found"));
 
         candidateRepository.delete(candidate);
+        counterService.recordDeleted(candidate);
+        emailFilter.recordDeleted(tenantId);
+        candidateCache.evict(tenantId, candidateId);
         searchService.deleteFromIndex(candidateId);
 
+        // Lets other replicas drop their cached copy
+        publishCandidateEvent("candidate.deleted", candidate);
+
         log.info("Candidate deleted: {}", candidateId);
     }
 
-    private void publishCandidateEvent(String eventType, Candidate candidate) {
-        try {
-            kafkaTemplate.send("talent.candidate.events", candidate.getId().toString(), Map.of(
-                "eventType", eventType,
-                "candidateId", candidate.getId(),
-                "tenantId", candidate.getTenantId(),
-                "status", candidate.getStatus(),
-                "stage", candidate.getPipelineStage(),
-                "timestamp", LocalDateTime.now()
-            ));
-        } catch (Exception e) {
-            log.error("Failed to publish candidate event: {}", eventType, e);
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_SCROLL_LIMIT));
+    }
+
+    private static <R, T> CursorPageResponse<T> toCursorPage(List<R> rows, int limit, Function<R, T> mapper,
+                                                             Function<R, String> cursorOf) {
+        boolean hasNext = rows.size() > limit;
+        List<R> page = hasNext ? rows.subList(0, limit) : rows;
+        List<T> content = new ArrayList<>(page.size());
+        for (R row : page) {
+            content.add(mapper.apply(row));
         }
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+
+    private void publishCandidateEvent(String eventType, Candidate candidate) {
+        eventPublisher.publish(eventType, candidate);
     }
 
     private CandidateResponse mapToResponse(Candidate candidate) {
-        return CandidateResponse.builder()
-                .id(candidate.getId())
-                .tenantId(candidate.getTenantId())
-                .firstName(candidate.getFirstName())
-                .lastName(candidate.getLastName())
-                .email(candidate.getEmail())
-                .phone(candidate.getPhone())
-                .location(candidate.getLocation())
-                .city(candidate.getCity())
-                .country(candidate.getCountry())
-                .status(candidate.getStatus())
-                .pipelineStage(candidate.getPipelineStage())
-                .source(candidate.getSource())
-                .referredBy(candidate.getReferredBy())
-                .summary(candidate.getSummary())
-                .yearsOfExperience(candidate.getYearsOfExperience())
-                .currentCompany(candidate.getCurrentCompany())
-                .currentPosition(candidate.getCurrentPosition())
-                .expectedSalary(candidate.getExpectedSalary())
-                .salaryCurrency(candidate.getSalaryCurrency())
-                .noticePeriodDays(candidate.getNoticePeriodDays())
-                .resumeData(candidate.getResumeData())
-                .skills(candidate.getSkills())
-                .education(candidate.getEducation())
-                .workExperience(candidate.getWorkExperience())
-                .certifications(candidate.getCertifications())
-                .languages(candidate.getLanguages())
-                .resumeUrl(candidate.getResumeUrl())
-                .linkedinUrl(candidate.getLinkedinUrl())
-                .githubUrl(candidate.getGithubUrl())
-                .portfolioUrl(candidate.getPortfolioUrl())
-                .isAvailable(candidate.getIsAvailable())
-                .isRemoteInterested(candidate.getIsRemoteInterested())
-                .isRelocationInterested(candidate.getIsRelocationInterested())
-                .rating(candidate.getRating())
-                .lastContactedAt(candidate.getLastContactedAt())
-                .createdAt(candidate.getCreatedAt())
-                .updatedAt(candidate.getUpdatedAt())
-                .build();
+        return candidateMapper.toResponse(candidate);
     }
 }
 
@@ -0,0 +1,94 @@
+package com.platform.talent.candidate.service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.talent.candidate.api.dto.CandidateResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache of candidate responses, keyed by tenant and candidate id so
+ * one tenant can never be served another tenant's entry. Writers invalidate after commit;
+ * {@link CandidateCacheInvalidationListener} does the same for writes on other replicas.
+ */
+@Component
+@Slf4j
+public class CandidateCache {
+
+    private final AsyncCache<Key, CandidateResponse> cache;
+    private final boolean enabled;
+
+    public CandidateCache(MeterRegistry meterRegistry,
+                          @Value("${candidate.cache.enabled:true}") boolean enabled,
+                          @Value("${candidate.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${candidate.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size, ...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "candidates", Tags.empty());
+    }
+
+    public CandidateResponse get(UUID tenantId, UUID candidateId, Supplier<CandidateResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        // Only an empty future is installed under the map lock; the query runs outside it so a
+        // virtual thread is never pinned while waiting on the database. Concurrent readers share
+        // the future, and an invalidation drops it, so a value read before a concurrent commit
+        // is never left in the cache.
+        CompletableFuture<CandidateResponse> created = new CompletableFuture<>();
+        CompletableFuture<CandidateResponse> future = cache.get(new Key(tenantId, candidateId), (key, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.get());
+            } catch (RuntimeException e) {
+                // Failed futures are removed by Caffeine, so "not found" is never cached
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public void evict(UUID tenantId, UUID candidateId) {
+        Key key = new Key(tenantId, candidateId);
+        // Evicting before commit would let a reader re-cache the old row in the meantime
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.synchronous().invalidate(key);
+                }
+            });
+        } else {
+            cache.synchronous().invalidate(key);
+        }
+    }
+
+    public void evictNow(UUID tenantId, UUID candidateId) {
+        cache.synchronous().invalidate(new Key(tenantId, candidateId));
+    }
+
+    private record Key(UUID tenantId, UUID candidateId) {
+    }
+}
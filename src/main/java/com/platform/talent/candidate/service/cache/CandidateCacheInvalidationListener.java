@@ -0,0 +1,49 @@
+package com.platform.talent.candidate.service.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.candidate.service.event.CandidateOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Drops cache entries for candidates changed on any replica. Each instance assigns itself
+ * every partition of the event topic, without a consumer group, and starts at the latest
+ * offset, so every replica sees every event without replaying history on startup.
+ */
+@Component
+@ConditionalOnProperty(name = "candidate.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateCacheInvalidationListener {
+
+    private final CandidateCache candidateCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topicPartitions = @TopicPartition(
+                    topic = CandidateOutboxRelay.TOPIC,
+                    partitions = "#{@candidateEventPartitions.all()}"),
+            properties = {
+                    "auto.offset.reset=latest",
+                    "enable.auto.commit=false",
+                    "key.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer"
+            })
+    public void onCandidateEvent(String message) {
+        try {
+            JsonNode event = objectMapper.readTree(message);
+            UUID tenantId = UUID.fromString(event.path("tenantId").asText());
+            UUID candidateId = UUID.fromString(event.path("candidateId").asText());
+            candidateCache.evictNow(tenantId, candidateId);
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable candidate event: {}", e.getMessage());
+        }
+    }
+}
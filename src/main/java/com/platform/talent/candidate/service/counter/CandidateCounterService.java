@@ -0,0 +1,169 @@
+package com.platform.talent.candidate.service.counter;
+
+import com.platform.talent.candidate.api.dto.CandidateFunnelResponse;
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.CandidateStatus;
+import com.platform.talent.candidate.domain.model.PipelineStage;
+import com.platform.talent.candidate.domain.repository.CandidateCounterRepository;
+import com.platform.talent.candidate.domain.repository.CandidateCounterRepository.Count;
+import com.platform.talent.candidate.domain.repository.CandidateCounterRepository.Delta;
+import com.platform.talent.candidate.domain.repository.CandidateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps per-tenant status and stage counts current in the same transaction as the change,
+ * so the funnel is one indexed read instead of a COUNT per status and stage. A periodic
+ * recount corrects any drift (e.g. rows changed outside this service).
+ */
+@Service
+@Slf4j
+public class CandidateCounterService {
+
+    private final CandidateCounterRepository counterRepository;
+    private final CandidateRepository candidateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${candidate.counters.stripes:8}")
+    private int stripes;
+
+    @Value("${candidate.counters.reconcile-interval-ms:3600000}")
+    private Duration reconcileInterval;
+
+    public CandidateCounterService(
+        CandidateCounterRepository counterRepository,
+        CandidateRepository candidateRepository,
+        TransactionTemplate transactionTemplate
+    ) {
+        this.counterRepository = counterRepository;
+        this.candidateRepository = candidateRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public record Transition(CandidateStatus oldStatus, PipelineStage oldStage,
+                             CandidateStatus newStatus, PipelineStage newStage) {
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(UUID tenantId, Collection<Candidate> candidates) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        for (Candidate candidate : candidates) {
+            add(deltas, CandidateCounterRepository.STATUS, candidate.getStatus(), 1);
+            add(deltas, CandidateCounterRepository.STAGE, candidate.getPipelineStage(), 1);
+        }
+        apply(tenantId, deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Candidate candidate) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        add(deltas, CandidateCounterRepository.STATUS, candidate.getStatus(), -1);
+        add(deltas, CandidateCounterRepository.STAGE, candidate.getPipelineStage(), -1);
+        apply(candidate.getTenantId(), deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(UUID tenantId, Collection<Transition> transitions) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        for (Transition transition : transitions) {
+            if (!Objects.equals(transition.oldStatus(), transition.newStatus())) {
+                add(deltas, CandidateCounterRepository.STATUS, transition.oldStatus(), -1);
+                add(deltas, CandidateCounterRepository.STATUS, transition.newStatus(), 1);
+            }
+            if (!Objects.equals(transition.oldStage(), transition.newStage())) {
+                add(deltas, CandidateCounterRepository.STAGE, transition.oldStage(), -1);
+                add(deltas, CandidateCounterRepository.STAGE, transition.newStage(), 1);
+            }
+        }
+        apply(tenantId, deltas);
+    }
+
+    @Transactional(readOnly = true)
+    public CandidateFunnelResponse getFunnel(UUID tenantId) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (CandidateStatus status : CandidateStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        Map<String, Long> byStage = new LinkedHashMap<>();
+        for (PipelineStage stage : PipelineStage.values()) {
+            byStage.put(stage.name(), 0L);
+        }
+
+        long total = 0;
+        for (Count count : counterRepository.findCounts(tenantId)) {
+            if (CandidateCounterRepository.STATUS.equals(count.dimension())) {
+                byStatus.put(count.value(), count.count());
+                total += count.count();
+            } else {
+                byStage.put(count.value(), count.count());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return CandidateFunnelResponse.builder()
+                .tenantId(tenantId)
+                .total(total)
+                .byStatus(byStatus)
+                .byStage(byStage)
+                // Range scan on (tenant_id, created_at); not worth a counter of its own
+                .newLast30Days(candidateRepository.countNewCandidates(tenantId, now.minusDays(30)))
+                .asOf(now)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${candidate.counters.reconcile-interval-ms:3600000}",
+               initialDelayString = "${candidate.counters.reconcile-initial-delay-ms:300000}")
+    public void reconcile() {
+        // One replica recounts per interval; half of it leaves room for timers that fire early
+        LocalDateTime now = LocalDateTime.now();
+        if (!counterRepository.claimReconcile(now, now.minus(reconcileInterval.dividedBy(2)))) {
+            log.debug("Candidate counters were reconciled recently by another replica");
+            return;
+        }
+        List<UUID> tenantIds = counterRepository.findTenantIds();
+        int failed = 0;
+        for (UUID tenantId : tenantIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> counterRepository.recount(tenantId));
+            } catch (Exception e) {
+                failed++;
+                log.warn("Failed to reconcile candidate counters for tenant {}", tenantId, e);
+            }
+        }
+        log.info("Reconciled candidate counters for {} tenants ({} failed)", tenantIds.size(), failed);
+    }
+
+    private static void add(Map<String, Long> deltas, String dimension, Enum<?> value, long delta) {
+        if (value != null) {
+            deltas.merge(dimension + ":" + value.name(), delta, Long::sum);
+        }
+    }
+
+    private void apply(UUID tenantId, Map<String, Long> deltas) {
+        List<Delta> changes = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                int separator = key.indexOf(':');
+                changes.add(new Delta(key.substring(0, separator), key.substring(separator + 1), delta));
+            }
+        });
+        // A random stripe per transaction spreads concurrent writers over different rows
+        counterRepository.applyDeltas(tenantId, ThreadLocalRandom.current().nextInt(stripes), changes);
+    }
+}
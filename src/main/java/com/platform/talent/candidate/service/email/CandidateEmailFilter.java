@@ -0,0 +1,350 @@
+package com.platform.talent.candidate.service.email;
+
+import com.platform.talent.candidate.domain.repository.CandidateCounterRepository;
+import com.platform.talent.candidate.domain.repository.CandidateRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant Bloom filters over candidate emails in front of the duplicate-email queries.
+ * A miss means the email is definitely new to this tenant and skips the database; a hit
+ * falls through to the indexed lookup. Filters are built from ggj_candidates on startup
+ * and rebuilt when deletes or growth push the false-positive rate over the limit.
+ *
+ * <p>Emails created on other replicas arrive through {@link CandidateEmailFilterListener}
+ * and are read back by {@link #applyCreated()}, so for roughly the outbox relay plus apply
+ * interval a miss can be wrong for a recent insert elsewhere. Callers keep the unique
+ * constraint as the final check and treat a violation as a duplicate.
+ */
+@Component
+@Slf4j
+public class CandidateEmailFilter {
+
+    private final CandidateRepository candidateRepository;
+    private final CandidateCounterRepository counterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<UUID, TenantFilter> filters = new ConcurrentHashMap<>();
+    // Candidate created on any replica -> tenant, drained by applyCreated()
+    private final Map<UUID, UUID> created = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final double maxFalsePositiveRate;
+    private final long minCapacity;
+    private final int fetchSize;
+    private final int applyBatchSize;
+
+    private final Counter definitelyNew;
+    private final Counter possibleHits;
+    private final Counter falsePositives;
+    private final Counter unavailable;
+
+    public CandidateEmailFilter(
+        CandidateRepository candidateRepository,
+        CandidateCounterRepository counterRepository,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${candidate.email-filter.enabled:true}") boolean enabled,
+        @Value("${candidate.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+        @Value("${candidate.email-filter.max-false-positive-rate:0.03}") double maxFalsePositiveRate,
+        @Value("${candidate.email-filter.min-capacity:1024}") long minCapacity,
+        @Value("${candidate.email-filter.fetch-size:5000}") int fetchSize,
+        @Value("${candidate.email-filter.apply-batch-size:1000}") int applyBatchSize
+    ) {
+        this.candidateRepository = candidateRepository;
+        this.counterRepository = counterRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxFalsePositiveRate = maxFalsePositiveRate;
+        this.minCapacity = minCapacity;
+        this.fetchSize = fetchSize;
+        this.applyBatchSize = applyBatchSize;
+        this.definitelyNew = checks("definitely_new");
+        this.possibleHits = checks("possible_hit");
+        this.falsePositives = checks("false_positive");
+        this.unavailable = checks("unavailable");
+        Gauge.builder("candidate.email.filter.pending", created, Map::size)
+                .register(meterRegistry);
+    }
+
+    public boolean exists(UUID tenantId, String email) {
+        TenantFilter tenant = readyFilter(tenantId);
+        EmailBloomFilter filter = tenant != null ? tenant.active : null;
+        if (filter == null) {
+            unavailable.increment();
+            return candidateRepository.existsByEmailAndTenantId(email, tenantId);
+        }
+        if (!filter.mightContain(normalize(email))) {
+            recordDefinitelyNew(tenant, 1);
+            return false;
+        }
+        possibleHits.increment();
+        boolean exists = candidateRepository.existsByEmailAndTenantId(email, tenantId);
+        if (!exists) {
+            recordFalsePositives(tenant, 1);
+        }
+        return exists;
+    }
+
+    // Only emails the filter cannot rule out are sent to the database
+    public Set<String> findExisting(UUID tenantId, Collection<String> emails) {
+        TenantFilter tenant = readyFilter(tenantId);
+        EmailBloomFilter filter = tenant != null ? tenant.active : null;
+        if (filter == null) {
+            unavailable.increment(emails.size());
+            return new HashSet<>(candidateRepository.findExistingEmails(tenantId, emails));
+        }
+        List<String> possible = new ArrayList<>();
+        for (String email : emails) {
+            if (filter.mightContain(normalize(email))) {
+                possible.add(email);
+            }
+        }
+        recordDefinitelyNew(tenant, emails.size() - possible.size());
+        possibleHits.increment(possible.size());
+        if (possible.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<String> existing = new HashSet<>(candidateRepository.findExistingEmails(tenantId, possible));
+        recordFalsePositives(tenant, possible.size() - existing.size());
+        return existing;
+    }
+
+    // Added only after commit, so a rolled-back insert never occupies the filter
+    public void addAfterCommit(UUID tenantId, Collection<String> emails) {
+        if (!enabled || emails.isEmpty()) {
+            return;
+        }
+        List<String> normalized = emails.stream().map(CandidateEmailFilter::normalize).toList();
+        runAfterCommit(() -> {
+            TenantFilter tenant = filters.get(tenantId);
+            if (tenant != null) {
+                tenant.put(normalized);
+            }
+        });
+    }
+
+    // Local inserts are already added after commit; putting them again is harmless
+    public void markCreated(UUID tenantId, UUID candidateId) {
+        if (enabled) {
+            created.put(candidateId, tenantId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${candidate.email-filter.apply-interval-ms:1000}")
+    public void applyCreated() {
+        while (!created.isEmpty()) {
+            Map<UUID, UUID> batch = new HashMap<>();
+            Iterator<Map.Entry<UUID, UUID>> it = created.entrySet().iterator();
+            while (it.hasNext() && batch.size() < applyBatchSize) {
+                Map.Entry<UUID, UUID> entry = it.next();
+                batch.put(entry.getKey(), entry.getValue());
+                it.remove();
+            }
+            try {
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            "SELECT tenant_id, email FROM ggj_candidates WHERE id = ANY(?)");
+                    ps.setArray(1, connection.createArrayOf("uuid", batch.keySet().toArray()));
+                    return ps;
+                }, rs -> {
+                    TenantFilter tenant = filters.get(rs.getObject(1, UUID.class));
+                    if (tenant != null) {
+                        tenant.put(List.of(normalize(rs.getString(2))));
+                    }
+                });
+            } catch (Exception e) {
+                batch.forEach(created::putIfAbsent);
+                log.warn("Failed to apply {} created candidates to email filters", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    // Bloom filters cannot forget; the stale entry only counts toward the next rebuild
+    public void recordDeleted(UUID tenantId) {
+        if (!enabled) {
+            return;
+        }
+        runAfterCommit(() -> {
+            TenantFilter tenant = filters.get(tenantId);
+            if (tenant != null) {
+                tenant.deleted.incrementAndGet();
+            }
+        });
+    }
+
+    // First run warms every tenant; later runs rebuild only filters that have degraded
+    @Scheduled(initialDelayString = "${candidate.email-filter.initial-delay-ms:0}",
+               fixedDelayString = "${candidate.email-filter.rebuild-interval-ms:600000}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        // Sizing only needs an approximate total, so the striped counters stand in for a COUNT(*)
+        Map<UUID, Long> counts = counterRepository.findTotals();
+        int rebuilt = 0;
+        for (Map.Entry<UUID, Long> entry : counts.entrySet()) {
+            TenantFilter tenant = filters.computeIfAbsent(entry.getKey(), this::register);
+            if (tenant.needsRebuild(entry.getValue(), maxFalsePositiveRate)) {
+                try {
+                    rebuild(entry.getKey(), tenant, entry.getValue());
+                    rebuilt++;
+                } catch (Exception e) {
+                    log.warn("Failed to build email filter for tenant {}", entry.getKey(), e);
+                }
+            }
+        }
+        if (rebuilt > 0) {
+            log.info("Built candidate email filters for {} of {} tenants", rebuilt, counts.size());
+        }
+    }
+
+    private void rebuild(UUID tenantId, TenantFilter tenant, long count) {
+        EmailBloomFilter next = EmailBloomFilter.create(Math.max(minCapacity, count * 2), falsePositiveRate);
+        // Set before the snapshot is read, so emails committed meanwhile land in one or the other
+        tenant.building = next;
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement("SELECT email FROM ggj_candidates WHERE tenant_id = ?");
+                ps.setFetchSize(fetchSize);
+                ps.setObject(1, tenantId);
+                return ps;
+            }, rs -> {
+                next.put(normalize(rs.getString(1)));
+            }));
+            tenant.active = next;
+            tenant.deleted.set(0);
+            tenant.definitelyNew.set(0);
+            tenant.falsePositives.set(0);
+        } finally {
+            tenant.building = null;
+        }
+    }
+
+    private TenantFilter readyFilter(UUID tenantId) {
+        return enabled ? filters.get(tenantId) : null;
+    }
+
+    private void recordDefinitelyNew(TenantFilter tenant, int count) {
+        definitelyNew.increment(count);
+        tenant.definitelyNew.addAndGet(count);
+    }
+
+    private void recordFalsePositives(TenantFilter tenant, int count) {
+        falsePositives.increment(count);
+        tenant.falsePositives.addAndGet(count);
+    }
+
+    private TenantFilter register(UUID tenantId) {
+        TenantFilter tenant = new TenantFilter();
+        String tag = tenantId.toString();
+        Gauge.builder("candidate.email.filter.bytes", tenant, t -> t.active != null ? t.active.sizeInBytes() : 0)
+                .tag("tenant", tag)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("candidate.email.filter.expected.fpp", tenant,
+                        t -> t.active != null ? t.active.expectedFalsePositiveRate() : Double.NaN)
+                .tag("tenant", tag)
+                .description("False-positive rate predicted from the filter's fill")
+                .register(meterRegistry);
+        Gauge.builder("candidate.email.filter.observed.fpp", tenant, TenantFilter::observedFalsePositiveRate)
+                .tag("tenant", tag)
+                .description("Share of new emails the filter could not rule out since the last rebuild")
+                .register(meterRegistry);
+        return tenant;
+    }
+
+    private Counter checks(String result) {
+        return Counter.builder("candidate.email.filter.checks")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Case-folded so the filter can only over-report relative to the exact-match queries
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class TenantFilter {
+
+        // Below this many negative checks the observed rate is too noisy to act on
+        static final long MIN_OBSERVED_SAMPLES = 1000;
+
+        volatile EmailBloomFilter active;
+        volatile EmailBloomFilter building;
+        final AtomicLong deleted = new AtomicLong();
+        final AtomicLong definitelyNew = new AtomicLong();
+        final AtomicLong falsePositives = new AtomicLong();
+
+        void put(Collection<String> emails) {
+            EmailBloomFilter current = active;
+            EmailBloomFilter next = building;
+            for (String email : emails) {
+                if (current != null) {
+                    current.put(email);
+                }
+                if (next != null) {
+                    next.put(email);
+                }
+            }
+        }
+
+        boolean needsRebuild(long count, double maxFalsePositiveRate) {
+            EmailBloomFilter current = active;
+            return current == null
+                    || count > current.capacity()
+                    || deleted.get() * 4 > current.capacity()
+                    || current.expectedFalsePositiveRate() > maxFalsePositiveRate
+                    || (definitelyNew.get() + falsePositives.get() >= MIN_OBSERVED_SAMPLES
+                        && observedFalsePositiveRate() > maxFalsePositiveRate);
+        }
+
+        double observedFalsePositiveRate() {
+            long negatives = definitelyNew.get() + falsePositives.get();
+            return negatives == 0 ? 0 : (double) falsePositives.get() / negatives;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.platform.talent.candidate.service.email;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.candidate.service.event.CandidateOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Feeds candidates created on any replica into the email filters. Like the other event
+ * listeners, each instance reads every partition without a consumer group, starting at the
+ * latest offset; the startup build covers everything before that.
+ */
+@Component
+@ConditionalOnProperty(name = "candidate.email-filter.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateEmailFilterListener {
+
+    private static final String CREATED = "candidate.created";
+
+    private final CandidateEmailFilter emailFilter;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topicPartitions = @TopicPartition(
+                    topic = CandidateOutboxRelay.TOPIC,
+                    partitions = "#{@candidateEventPartitions.all()}"),
+            properties = {
+                    "auto.offset.reset=latest",
+                    "enable.auto.commit=false",
+                    "key.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer"
+            })
+    public void onCandidateEvent(String message) {
+        try {
+            JsonNode event = objectMapper.readTree(message);
+            if (CREATED.equals(event.path("eventType").asText())) {
+                emailFilter.markCreated(
+                        UUID.fromString(event.path("tenantId").asText()),
+                        UUID.fromString(event.path("candidateId").asText()));
+            }
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable candidate event: {}", e.getMessage());
+        }
+    }
+}
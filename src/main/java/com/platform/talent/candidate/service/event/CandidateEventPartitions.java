@@ -0,0 +1,34 @@
+package com.platform.talent.candidate.service.event;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Partitions of the candidate event topic for the per-replica listeners. They assign
+ * themselves every partition instead of joining a consumer group, so restarts and
+ * rollouts leave no groups behind on the broker. Read once at startup; listeners pick up
+ * partitions added to the topic on their next restart.
+ */
+@Component("candidateEventPartitions")
+@RequiredArgsConstructor
+public class CandidateEventPartitions {
+
+    private final ConsumerFactory<?, ?> consumerFactory;
+
+    public String[] all() {
+        try (Consumer<?, ?> consumer = consumerFactory.createConsumer()) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(CandidateOutboxRelay.TOPIC);
+            if (partitions == null || partitions.isEmpty()) {
+                throw new RuntimeException("Topic " + CandidateOutboxRelay.TOPIC + " has no partitions");
+            }
+            return partitions.stream()
+                    .map(partition -> String.valueOf(partition.partition()))
+                    .toArray(String[]::new);
+        }
+    }
+}
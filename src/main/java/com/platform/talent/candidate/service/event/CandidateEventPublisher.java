@@ -0,0 +1,68 @@
+package com.platform.talent.candidate.service.event;
+
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.CandidateOutboxEvent;
+import com.platform.talent.candidate.domain.repository.CandidateOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records candidate events in the outbox table as part of the caller's transaction.
+ * {@link CandidateOutboxRelay} publishes them to Kafka once committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class CandidateEventPublisher {
+
+    private final CandidateOutboxRepository outboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String eventType, Candidate candidate) {
+        outboxRepository.save(toOutboxEvent(eventType, candidate, LocalDateTime.now()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(String eventType, Collection<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<CandidateOutboxEvent> events = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            events.add(toOutboxEvent(eventType, candidate, now));
+        }
+        outboxRepository.saveAll(events);
+    }
+
+    private CandidateOutboxEvent toOutboxEvent(String eventType, Candidate candidate, LocalDateTime now) {
+        return CandidateOutboxEvent.builder()
+                .aggregateId(candidate.getId())
+                .tenantId(candidate.getTenantId())
+                .eventType(eventType)
+                .payload(toPayload(eventType, candidate, now))
+                .createdAt(now)
+                .build();
+    }
+
+    // Same shape and wire format the KafkaTemplate JsonSerializer produced before the outbox
+    public static Map<String, Object> toPayload(String eventType, Candidate candidate, LocalDateTime now) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("eventType", eventType);
+        payload.put("candidateId", candidate.getId().toString());
+        payload.put("tenantId", candidate.getTenantId().toString());
+        payload.put("status", candidate.getStatus() != null ? candidate.getStatus().name() : null);
+        payload.put("stage", candidate.getPipelineStage() != null ? candidate.getPipelineStage().name() : null);
+        payload.put("timestamp", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(now));
+        return payload;
+    }
+}
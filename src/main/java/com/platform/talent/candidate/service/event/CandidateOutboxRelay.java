@@ -0,0 +1,86 @@
+package com.platform.talent.candidate.service.event;
+
+import com.platform.talent.candidate.domain.model.CandidateOutboxEvent;
+import com.platform.talent.candidate.domain.repository.CandidateOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the candidate outbox to Kafka in batches. Rows are locked with SKIP LOCKED,
+ * sent as one producer batch and deleted only after every send is acknowledged,
+ * so delivery is at-least-once and never includes rolled-back writes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "candidate.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class CandidateOutboxRelay {
+
+    public static final String TOPIC = "talent.candidate.events";
+
+    private final CandidateOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${candidate.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${candidate.outbox.relay.send-timeout:30s}")
+    private Duration sendTimeout;
+
+    @Scheduled(fixedDelayString = "${candidate.outbox.relay.interval-ms:500}")
+    public void relay() {
+        try {
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published != null && published == batchSize);
+        } catch (Exception e) {
+            log.error("Failed to relay candidate events, will retry on next run", e);
+        }
+    }
+
+    private int publishBatch() {
+        List<CandidateOutboxEvent> events = outboxRepository.lockNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(events.size());
+        List<Long> ids = new ArrayList<>(events.size());
+        for (CandidateOutboxEvent event : events) {
+            sends.add(kafkaTemplate.send(TOPIC, event.getAggregateId().toString(), event.getPayload()));
+            ids.add(event.getId());
+        }
+        kafkaTemplate.flush();
+
+        try {
+            CompletableFuture.allOf(sends.toArray(new CompletableFuture[0]))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while relaying candidate events", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new RuntimeException("Failed to publish candidate events", e);
+        }
+
+        outboxRepository.deleteAllByIdInBatch(ids);
+        log.debug("Relayed {} candidate events", events.size());
+        return events.size();
+    }
+}
@@ -0,0 +1,425 @@
+package com.platform.talent.candidate.service.importer;
+
+import com.platform.talent.candidate.api.dto.CandidateImportJobResponse;
+import com.platform.talent.candidate.api.dto.CreateCandidateRequest;
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.CandidateImportJob;
+import com.platform.talent.candidate.domain.repository.CandidateImportJobRepository;
+import com.platform.talent.candidate.domain.repository.CandidateJdbcRepository;
+import com.platform.talent.candidate.domain.repository.CandidateRepository;
+import com.platform.talent.candidate.service.CandidateSearchService;
+import com.platform.talent.candidate.service.CandidateService;
+import com.platform.talent.candidate.service.counter.CandidateCounterService;
+import com.platform.talent.candidate.service.email.CandidateEmailFilter;
+import com.platform.talent.candidate.service.event.CandidateEventPublisher;
+import com.platform.talent.candidate.service.skill.SkillDictionary;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a CSV upload into ggj_candidates in chunks. Each chunk is deduplicated against
+ * the tenant with one query, inserted with a JDBC batch, and queued for bulk indexing and
+ * event publishing in the same transaction, so heap use is bounded by the chunk size.
+ *
+ * <p>The replica that received the upload runs the job and saves its progress after every
+ * chunk, so any replica can answer status polls. The spooled file is local to that replica:
+ * if it dies, the job's heartbeat stops and another replica marks the job failed.
+ */
+@Service
+@Slf4j
+public class CandidateImportService {
+
+    private static final CSVFormat CSV_FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreHeaderCase(true)
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .build();
+
+    // Jobs queued or running on this replica; their rows get a heartbeat
+    private final Map<UUID, CandidateImportJob> active = new ConcurrentHashMap<>();
+
+    private final CandidateImportJobRepository jobRepository;
+    private final CandidateService candidateService;
+    private final CandidateRepository candidateRepository;
+    private final CandidateJdbcRepository candidateJdbcRepository;
+    private final CandidateSearchService searchService;
+    private final CandidateEventPublisher eventPublisher;
+    private final CandidateCounterService counterService;
+    private final CandidateEmailFilter emailFilter;
+    private final SkillDictionary skillDictionary;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final TaskExecutor importExecutor;
+
+    @Value("${candidate.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${candidate.import.job-retention:24h}")
+    private Duration jobRetention;
+
+    @Value("${candidate.import.max-file-size:512MB}")
+    private DataSize maxFileSize;
+
+    @Value("${candidate.import.stale-after:5m}")
+    private Duration staleAfter;
+
+    public CandidateImportService(
+        CandidateImportJobRepository jobRepository,
+        CandidateService candidateService,
+        CandidateRepository candidateRepository,
+        CandidateJdbcRepository candidateJdbcRepository,
+        CandidateSearchService searchService,
+        CandidateEventPublisher eventPublisher,
+        CandidateCounterService counterService,
+        CandidateEmailFilter emailFilter,
+        SkillDictionary skillDictionary,
+        TransactionTemplate transactionTemplate,
+        Validator validator,
+        @Qualifier("candidateImportExecutor") TaskExecutor importExecutor
+    ) {
+        this.jobRepository = jobRepository;
+        this.candidateService = candidateService;
+        this.candidateRepository = candidateRepository;
+        this.candidateJdbcRepository = candidateJdbcRepository;
+        this.searchService = searchService;
+        this.eventPublisher = eventPublisher;
+        this.counterService = counterService;
+        this.emailFilter = emailFilter;
+        this.skillDictionary = skillDictionary;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.importExecutor = importExecutor;
+    }
+
+    public CandidateImportJobResponse startImport(UUID tenantId, MultipartFile file) {
+        try (InputStream content = file.getInputStream()) {
+            return startImport(tenantId, file.getOriginalFilename(), content);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store import file", e);
+        }
+    }
+
+    // Large files arrive as a raw request body past the multipart limit, so the size cap is enforced here
+    public CandidateImportJobResponse startImport(UUID tenantId, String fileName, InputStream content) {
+        log.info("Starting candidate import for tenant: {}", tenantId);
+
+        // The request body is gone once the request ends, so spool it for the worker
+        Path spooled;
+        try {
+            spooled = Files.createTempFile("candidate-import-", ".csv");
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store import file", e);
+        }
+        try (OutputStream out = Files.newOutputStream(spooled)) {
+            copyBounded(content, out, maxFileSize.toBytes());
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(spooled);
+            throw e instanceof RuntimeException runtime ? runtime : new RuntimeException("Failed to store import file", e);
+        }
+
+        CandidateImportJob job = new CandidateImportJob(tenantId, fileName);
+        try {
+            jobRepository.insert(job);
+        } catch (RuntimeException e) {
+            deleteQuietly(spooled);
+            throw e;
+        }
+        active.put(job.getId(), job);
+        try {
+            importExecutor.execute(() -> runImport(job, spooled));
+        } catch (RuntimeException e) {
+            active.remove(job.getId());
+            jobRepository.delete(job.getId());
+            deleteQuietly(spooled);
+            throw new RuntimeException("Import queue is full, try again later", e);
+        }
+        return toResponse(job);
+    }
+
+    public CandidateImportJobResponse getImportJob(UUID tenantId, UUID jobId) {
+        return jobRepository.findByIdAndTenantId(jobId, tenantId)
+                .orElseThrow(() -> new RuntimeException("Import job not found"));
+    }
+
+    // Heartbeat for this replica's jobs, then fail the ones whose replica went away
+    @Scheduled(fixedDelayString = "${candidate.import.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.touch(active.keySet(), now);
+        int failed = jobRepository.failStale(now.minus(staleAfter),
+                "Import interrupted: the replica running it stopped", now);
+        if (failed > 0) {
+            log.warn("Marked {} abandoned candidate import jobs as failed", failed);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3_600_000)
+    public void evictFinishedJobs() {
+        jobRepository.deleteFinishedBefore(LocalDateTime.now().minus(jobRetention));
+    }
+
+    private void copyBounded(InputStream in, OutputStream out, long maxBytes) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+            if (total > maxBytes) {
+                throw new RuntimeException("Import file exceeds maximum size of " + maxFileSize.toMegabytes() + "MB");
+            }
+            out.write(buffer, 0, read);
+        }
+    }
+
+    private void runImport(CandidateImportJob job, Path file) {
+        job.start();
+        saveProgress(job);
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             CSVParser parser = CSV_FORMAT.parse(reader)) {
+            List<Candidate> chunk = new ArrayList<>(chunkSize);
+            for (CSVRecord record : parser) {
+                job.getRowsRead().incrementAndGet();
+                Candidate candidate = toCandidate(job, record);
+                if (candidate != null) {
+                    chunk.add(candidate);
+                }
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk);
+                    saveProgress(job);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            importChunk(job, chunk);
+            job.complete();
+            log.info("Candidate import {} completed: {} imported, {} duplicates, {} failed",
+                    job.getId(), job.getImported().get(), job.getDuplicates().get(), job.getFailed().get());
+        } catch (Exception e) {
+            log.error("Candidate import {} failed", job.getId(), e);
+            job.fail("Import aborted after row " + job.getRowsRead().get() + ": " + e.getMessage());
+        } finally {
+            saveProgress(job);
+            active.remove(job.getId());
+            deleteQuietly(file);
+        }
+    }
+
+    // Progress is best effort; a failed write only delays what pollers see
+    private void saveProgress(CandidateImportJob job) {
+        try {
+            jobRepository.save(job);
+        } catch (Exception e) {
+            log.warn("Failed to save progress of candidate import {}", job.getId(), e);
+        }
+    }
+
+    private void importChunk(CandidateImportJob job, List<Candidate> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            insertChunk(job, chunk, true);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent create took one of the emails after our duplicate check, or the email
+            // filter had not yet seen another replica's insert; re-check once against the table
+            log.warn("Import {} chunk hit a duplicate email, retrying", job.getId());
+            try {
+                insertChunk(job, chunk, false);
+            } catch (DataIntegrityViolationException retryFailure) {
+                job.getFailed().addAndGet(chunk.size());
+                job.addError("Chunk ending at row " + job.getRowsRead().get() + " rejected: "
+                        + retryFailure.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private void insertChunk(CandidateImportJob job, List<Candidate> chunk, boolean useEmailFilter) {
+        UUID tenantId = job.getTenantId();
+        // Emails repeated inside the file: first occurrence wins
+        Map<String, Candidate> byEmail = new LinkedHashMap<>();
+        for (Candidate candidate : chunk) {
+            byEmail.putIfAbsent(candidate.getEmail(), candidate);
+        }
+        int duplicatesInFile = chunk.size() - byEmail.size();
+
+        int inserted = transactionTemplate.execute(status -> {
+            Set<String> existing = useEmailFilter
+                    ? emailFilter.findExisting(tenantId, byEmail.keySet())
+                    : new HashSet<>(candidateRepository.findExistingEmails(tenantId, byEmail.keySet()));
+            List<Candidate> fresh = byEmail.values().stream()
+                    .filter(candidate -> !existing.contains(candidate.getEmail()))
+                    .collect(Collectors.toList());
+
+            LocalDateTime now = LocalDateTime.now();
+            for (Candidate candidate : fresh) {
+                candidate.setId(UUID.randomUUID());
+                candidate.setCreatedAt(now);
+                candidate.setUpdatedAt(now);
+                candidate.setVersion(0L);
+            }
+
+            skillDictionary.intern(tenantId, fresh);
+            candidateJdbcRepository.batchInsert(fresh);
+            counterService.recordCreated(tenantId, fresh);
+            emailFilter.addAfterCommit(tenantId, fresh.stream().map(Candidate::getEmail).toList());
+            searchService.indexCandidates(fresh);
+            eventPublisher.publishAll("candidate.created", fresh);
+            return fresh.size();
+        });
+
+        job.getImported().addAndGet(inserted);
+        job.getDuplicates().addAndGet(duplicatesInFile + (byEmail.size() - inserted));
+    }
+
+    private Candidate toCandidate(CandidateImportJob job, CSVRecord record) {
+        long row = record.getRecordNumber();
+        try {
+            CreateCandidateRequest request = CreateCandidateRequest.builder()
+                    .firstName(value(record, "firstName"))
+                    .lastName(value(record, "lastName"))
+                    .email(value(record, "email"))
+                    .phone(value(record, "phone"))
+                    .location(value(record, "location"))
+                    .city(value(record, "city"))
+                    .country(value(record, "country"))
+                    .source(value(record, "source"))
+                    .summary(value(record, "summary"))
+                    .yearsOfExperience(intValue(record, "yearsOfExperience"))
+                    .currentCompany(value(record, "currentCompany"))
+                    .currentPosition(value(record, "currentPosition"))
+                    .expectedSalary(doubleValue(record, "expectedSalary"))
+                    .salaryCurrency(value(record, "salaryCurrency"))
+                    .noticePeriodDays(intValue(record, "noticePeriodDays"))
+                    .skills(listValue(record, "skills"))
+                    .certifications(listValue(record, "certifications"))
+                    .languages(listValue(record, "languages"))
+                    .linkedinUrl(value(record, "linkedinUrl"))
+                    .githubUrl(value(record, "githubUrl"))
+                    .portfolioUrl(value(record, "portfolioUrl"))
+                    .isAvailable(booleanValue(record, "isAvailable"))
+                    .isRemoteInterested(booleanValue(record, "isRemoteInterested"))
+                    .isRelocationInterested(booleanValue(record, "isRelocationInterested"))
+                    .build();
+
+            Set<ConstraintViolation<CreateCandidateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                rejectRow(job, row, violations.stream()
+                        .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                        .collect(Collectors.joining(", ")));
+                return null;
+            }
+            return candidateService.newCandidate(job.getTenantId(), request);
+        } catch (IllegalArgumentException e) {
+            rejectRow(job, row, e.getMessage());
+            return null;
+        }
+    }
+
+    private void rejectRow(CandidateImportJob job, long row, String reason) {
+        job.getFailed().incrementAndGet();
+        job.addError("Row " + row + ": " + reason);
+    }
+
+    private static String value(CSVRecord record, String column) {
+        if (!record.isMapped(column) || !record.isSet(column)) {
+            return null;
+        }
+        String value = record.get(column);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer intValue(CSVRecord record, String column) {
+        String value = value(record, column);
+        try {
+            return value != null ? Integer.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid " + column + " '" + value + "'");
+        }
+    }
+
+    private static Double doubleValue(CSVRecord record, String column) {
+        String value = value(record, column);
+        try {
+            return value != null ? Double.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid " + column + " '" + value + "'");
+        }
+    }
+
+    private static Boolean booleanValue(CSVRecord record, String column) {
+        String value = value(record, column);
+        return value != null ? Boolean.valueOf(value) : null;
+    }
+
+    // Multi-valued columns are semicolon separated, e.g. "Java;Spring Boot;SQL"
+    private static List<String> listValue(CSVRecord record, String column) {
+        String value = value(record, column);
+        if (value == null) {
+            return null;
+        }
+        return Arrays.stream(value.split(";"))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete import file: {}", file, e);
+        }
+    }
+
+    private CandidateImportJobResponse toResponse(CandidateImportJob job) {
+        return CandidateImportJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .fileName(job.getFileName())
+                .rowsRead(job.getRowsRead().get())
+                .imported(job.getImported().get())
+                .duplicates(job.getDuplicates().get())
+                .failed(job.getFailed().get())
+                .rowsPerSecond(CandidateImportJob.rowsPerSecond(
+                        job.getRowsRead().get(), job.getStartedAt(), job.getFinishedAt()))
+                .errors(List.copyOf(job.getErrors()))
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
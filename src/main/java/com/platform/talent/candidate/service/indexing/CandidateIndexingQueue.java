@@ -0,0 +1,399 @@
+package com.platform.talent.candidate.service.indexing;
+
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.CandidateReindexJob;
+import com.platform.talent.candidate.domain.repository.CandidateReindexJobRepository;
+import com.platform.talent.candidate.search.CandidateDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Buffers candidate index/delete operations, coalesced per candidate id, and writes them
+ * to Elasticsearch with bulk requests on a background thread. Failed operations are
+ * retried with exponential backoff unless a newer operation for the same id arrived.
+ *
+ * <p>While a reindex job is running or paused, writes are mirrored into its target index.
+ * Every replica reads that state from ggj_candidate_reindex_jobs, and mirrored documents
+ * carry the candidate's {@code @Version} so an older bulk-loaded page never overwrites them.
+ */
+@Component
+@Slf4j
+public class CandidateIndexingQueue {
+
+    private final ConcurrentHashMap<String, PendingOperation> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final MeterRegistry meterRegistry;
+    private final CandidateReindexJobRepository reindexJobRepository;
+
+    @Autowired(required = false)
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Value("${candidate.indexing.batch-size:500}")
+    private int batchSize;
+
+    @Value("${candidate.indexing.flush-interval:1s}")
+    private Duration flushInterval;
+
+    @Value("${candidate.indexing.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${candidate.indexing.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${candidate.indexing.max-backoff:1m}")
+    private Duration maxBackoff;
+
+    @Value("${candidate.indexing.mirror-refresh-interval:5s}")
+    private Duration mirrorRefreshInterval;
+
+    // Indices being rebuilt, as last read from the jobs table
+    private volatile List<IndexCoordinates> shadowIndexes = List.of();
+
+    private ScheduledExecutorService flusher;
+    private Counter indexedCounter;
+    private Counter deletedCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+    private Timer bulkTimer;
+
+    public CandidateIndexingQueue(MeterRegistry meterRegistry, CandidateReindexJobRepository reindexJobRepository) {
+        this.meterRegistry = meterRegistry;
+        this.reindexJobRepository = reindexJobRepository;
+    }
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("candidate.indexing.queue.depth", pending, ConcurrentHashMap::size)
+                .description("Candidate index operations waiting to be flushed")
+                .register(meterRegistry);
+        Gauge.builder("candidate.indexing.lag", this, CandidateIndexingQueue::lagSeconds)
+                .description("Age of the oldest pending candidate index operation")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        indexedCounter = operationCounter("indexed");
+        deletedCounter = operationCounter("deleted");
+        retriedCounter = operationCounter("retried");
+        failedCounter = operationCounter("failed");
+        bulkTimer = Timer.builder("candidate.indexing.bulk")
+                .description("Elasticsearch bulk write duration")
+                .register(meterRegistry);
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "candidate-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        if (isEnabled()) {
+            flusher.scheduleWithFixedDelay(this::refreshShadowIndexesSafely,
+                    0, mirrorRefreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        flusher.shutdown();
+        if (flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+            flushSafely();
+        }
+        if (!pending.isEmpty()) {
+            log.warn("Shutting down with {} candidate index operations not flushed", pending.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return elasticsearchOperations != null;
+    }
+
+    // Mapped after commit, so the document carries the version the flush assigned
+    public void enqueueIndex(Collection<Candidate> candidates, Function<Candidate, CandidateDocument> mapper) {
+        afterCommit(() -> candidates.forEach(candidate -> offer(new PendingOperation(
+                candidate.getId().toString(), mapper.apply(candidate), versionOf(candidate), System.nanoTime()))));
+    }
+
+    public void enqueueDelete(String candidateId) {
+        afterCommit(() -> offer(new PendingOperation(candidateId, null, 0L, System.nanoTime())));
+    }
+
+    public int depth() {
+        return pending.size();
+    }
+
+    // Also called by the replica that changed a job, so it does not wait for the next refresh
+    public void refreshShadowIndexes() {
+        shadowIndexes = reindexJobRepository.findByStatusIn(
+                        List.of(CandidateReindexJob.Status.RUNNING, CandidateReindexJob.Status.PAUSED)).stream()
+                .map(job -> IndexCoordinates.of(job.getTargetIndex()))
+                .toList();
+    }
+
+    // How long a new job must wait before every replica is mirroring into its index
+    public Duration mirrorPropagationDelay() {
+        return mirrorRefreshInterval.plus(flushInterval);
+    }
+
+    // External (greater-or-equal) versioning: a write older than the indexed document is rejected
+    static IndexQuery versionedQuery(CandidateDocument document, long version) {
+        return new IndexQueryBuilder()
+                .withId(document.getId())
+                .withObject(document)
+                .withVersion(version)
+                .build();
+    }
+
+    // Rejections of an older version mean a newer document is already in place
+    static boolean isVersionConflict(BulkFailureException.FailureDetails failure) {
+        return failure.status() != null && failure.status() == 409;
+    }
+
+    private static long versionOf(Candidate candidate) {
+        return candidate.getVersion() != null ? candidate.getVersion() : 0L;
+    }
+
+    private void refreshShadowIndexesSafely() {
+        try {
+            refreshShadowIndexes();
+        } catch (Exception e) {
+            // Keep mirroring into the last known indices rather than silently stopping
+            log.warn("Failed to read active reindex jobs: {}", e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!isEnabled()) {
+            return;
+        }
+        // Rolled-back writes must never reach the index
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void offer(PendingOperation operation) {
+        // Latest write wins, but keep the original enqueue time so lag stays honest
+        pending.merge(operation.id, operation,
+                (previous, latest) -> latest.since(previous.enqueuedAtNanos));
+        if (pending.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    private void flushSafely() {
+        flushScheduled.set(false);
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Candidate index flush failed", e);
+        }
+    }
+
+    private void flush() {
+        List<PendingOperation> batch;
+        do {
+            batch = drain();
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private List<PendingOperation> drain() {
+        long now = System.nanoTime();
+        List<PendingOperation> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        for (PendingOperation operation : pending.values()) {
+            if (batch.size() == batchSize) {
+                break;
+            }
+            // remove(key, value) skips entries superseded since we read them
+            if (operation.notBeforeNanos - now <= 0 && pending.remove(operation.id, operation)) {
+                batch.add(operation);
+            }
+        }
+        return batch;
+    }
+
+    private void write(List<PendingOperation> batch) {
+        List<CandidateDocument> documents = new ArrayList<>(batch.size());
+        List<PendingOperation> indexes = new ArrayList<>(batch.size());
+        List<PendingOperation> deletes = new ArrayList<>();
+        for (PendingOperation operation : batch) {
+            if (operation.document != null) {
+                documents.add(operation.document);
+                indexes.add(operation);
+            } else {
+                deletes.add(operation);
+            }
+        }
+
+        if (!documents.isEmpty()) {
+            try {
+                bulkTimer.record(() -> {
+                    elasticsearchOperations.save(documents);
+                });
+                indexedCounter.increment(documents.size());
+            } catch (BulkFailureException e) {
+                Set<String> failedIds = new HashSet<>(e.getFailedDocuments().keySet());
+                log.warn("Bulk index partially failed for {} of {} candidates", failedIds.size(), documents.size());
+                indexedCounter.increment(documents.size() - failedIds.size());
+                batch.stream()
+                        .filter(operation -> operation.document != null && failedIds.contains(operation.id))
+                        .forEach(this::retry);
+            } catch (Exception e) {
+                log.warn("Bulk index of {} candidates failed: {}", documents.size(), e.getMessage());
+                batch.stream().filter(operation -> operation.document != null).forEach(this::retry);
+            }
+        }
+
+        for (IndexCoordinates shadow : shadowIndexes) {
+            writeShadow(shadow, indexes, deletes);
+        }
+
+        for (PendingOperation operation : deletes) {
+            try {
+                elasticsearchOperations.delete(operation.id, CandidateDocument.class);
+                deletedCounter.increment();
+            } catch (Exception e) {
+                log.warn("Failed to remove candidate {} from index: {}", operation.id, e.getMessage());
+                retry(operation);
+            }
+        }
+    }
+
+    // Failures go back through retry(), which rewrites both the live and the shadow index
+    private void writeShadow(IndexCoordinates shadow, List<PendingOperation> indexes,
+                             List<PendingOperation> deletes) {
+        if (!indexes.isEmpty()) {
+            try {
+                elasticsearchOperations.bulkIndex(indexes.stream()
+                        .map(operation -> versionedQuery(operation.document, operation.version))
+                        .toList(), shadow);
+            } catch (BulkFailureException e) {
+                Map<String, BulkFailureException.FailureDetails> failures = e.getFailedDocuments();
+                Set<String> failedIds = new HashSet<>();
+                failures.forEach((id, failure) -> {
+                    if (!isVersionConflict(failure)) {
+                        failedIds.add(id);
+                    }
+                });
+                if (!failedIds.isEmpty()) {
+                    log.warn("Mirroring into {} failed for {} of {} candidates",
+                            shadow.getIndexName(), failedIds.size(), indexes.size());
+                    indexes.stream().filter(operation -> failedIds.contains(operation.id)).forEach(this::retry);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to mirror {} candidates into {}: {}",
+                        indexes.size(), shadow.getIndexName(), e.getMessage());
+                indexes.forEach(this::retry);
+            }
+        }
+        for (PendingOperation operation : deletes) {
+            try {
+                elasticsearchOperations.delete(operation.id, shadow);
+            } catch (Exception e) {
+                log.warn("Failed to remove candidate {} from {}: {}",
+                        operation.id, shadow.getIndexName(), e.getMessage());
+                retry(operation);
+            }
+        }
+    }
+
+    private void retry(PendingOperation operation) {
+        int attempts = operation.attempts + 1;
+        if (attempts >= maxAttempts) {
+            failedCounter.increment();
+            log.error("Giving up on candidate index operation for {} after {} attempts", operation.id, attempts);
+            return;
+        }
+        long backoffMs = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempts - 1, 20));
+        PendingOperation retried = operation.retry(attempts, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs));
+        // A newer operation for the same candidate supersedes the failed one
+        if (pending.putIfAbsent(operation.id, retried) == null) {
+            retriedCounter.increment();
+        }
+    }
+
+    private double lagSeconds() {
+        long now = System.nanoTime();
+        long oldest = now;
+        for (PendingOperation operation : pending.values()) {
+            if (operation.enqueuedAtNanos - oldest < 0) {
+                oldest = operation.enqueuedAtNanos;
+            }
+        }
+        return (now - oldest) / 1_000_000_000.0;
+    }
+
+    private Counter operationCounter(String result) {
+        return Counter.builder("candidate.indexing.operations")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class PendingOperation {
+        private final String id;
+        private final CandidateDocument document; // null means delete
+        private final long version;
+        private final long enqueuedAtNanos;
+        private final int attempts;
+        private final long notBeforeNanos;
+
+        private PendingOperation(String id, CandidateDocument document, long version, long enqueuedAtNanos) {
+            this(id, document, version, enqueuedAtNanos, 0, enqueuedAtNanos);
+        }
+
+        private PendingOperation(String id, CandidateDocument document, long version, long enqueuedAtNanos,
+                                 int attempts, long notBeforeNanos) {
+            this.id = id;
+            this.document = document;
+            this.version = version;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+            this.attempts = attempts;
+            this.notBeforeNanos = notBeforeNanos;
+        }
+
+        private PendingOperation since(long earlierEnqueuedAtNanos) {
+            return new PendingOperation(id, document, version, earlierEnqueuedAtNanos, 0, notBeforeNanos);
+        }
+
+        private PendingOperation retry(int attempts, long notBeforeNanos) {
+            return new PendingOperation(id, document, version, enqueuedAtNanos, attempts, notBeforeNanos);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.platform.talent.candidate.service.indexing;
+
+import com.platform.talent.candidate.api.dto.CandidateReindexJobResponse;
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.CandidateReindexJob;
+import com.platform.talent.candidate.domain.repository.CandidateReindexJobRepository;
+import com.platform.talent.candidate.domain.repository.CandidateRepository;
+import com.platform.talent.candidate.search.CandidateDocument;
+import com.platform.talent.candidate.service.CandidateSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds the candidates search index from Postgres into a new versioned index and then
+ * points the {@code candidates} alias at it in one atomic alias update. Pages are read with
+ * keyset pagination over the primary key and bulk-loaded by parallel workers; the last
+ * contiguous page loaded is checkpointed so a paused or crashed job resumes where it stopped.
+ *
+ * <p>Every replica mirrors live writes into the target index while the job is RUNNING or
+ * PAUSED (see {@link CandidateIndexingQueue}). Pages are written with external versioning and
+ * their ids re-checked afterwards, so a page read before a concurrent update or delete cannot
+ * undo it. A FAILED job was not mirrored while it was down, so resuming it starts over.
+ */
+@Service
+@Slf4j
+public class CandidateReindexService {
+
+    private static final String ALIAS = "candidates";
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final DateTimeFormatter INDEX_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final CandidateRepository candidateRepository;
+    private final CandidateReindexJobRepository jobRepository;
+    private final CandidateSearchService searchService;
+    private final CandidateIndexingQueue indexingQueue;
+    private final ThreadPoolTaskExecutor reindexExecutor;
+    private final TransactionTemplate readTransaction;
+    private final AtomicReference<UUID> activeJob = new AtomicReference<>();
+    private final AtomicBoolean pauseRequested = new AtomicBoolean();
+
+    @Autowired(required = false)
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Value("${candidate.reindex.page-size:1000}")
+    private int pageSize;
+
+    @Value("${candidate.reindex.workers:4}")
+    private int workers;
+
+    public CandidateReindexService(
+        CandidateRepository candidateRepository,
+        CandidateReindexJobRepository jobRepository,
+        CandidateSearchService searchService,
+        CandidateIndexingQueue indexingQueue,
+        @Qualifier("candidateReindexExecutor") ThreadPoolTaskExecutor reindexExecutor,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.candidateRepository = candidateRepository;
+        this.jobRepository = jobRepository;
+        this.searchService = searchService;
+        this.indexingQueue = indexingQueue;
+        this.reindexExecutor = reindexExecutor;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    public CandidateReindexJobResponse startReindex(Integer maxDocsPerSecond) {
+        requireElasticsearch();
+        requireNoOtherRunningJob(null);
+        String targetIndex = ALIAS + "_v" + LocalDateTime.now().format(INDEX_SUFFIX);
+
+        createIndex(targetIndex);
+
+        LocalDateTime now = LocalDateTime.now();
+        CandidateReindexJob job = jobRepository.save(CandidateReindexJob.builder()
+                .id(UUID.randomUUID())
+                .targetIndex(targetIndex)
+                .status(CandidateReindexJob.Status.RUNNING)
+                .maxDocsPerSecond(maxDocsPerSecond)
+                .startedAt(now)
+                .updatedAt(now)
+                .build());
+        log.info("Starting candidate reindex {} into {}", job.getId(), targetIndex);
+        launch(job);
+        return toResponse(job);
+    }
+
+    public CandidateReindexJobResponse resumeReindex(UUID jobId, Integer maxDocsPerSecond) {
+        requireElasticsearch();
+        requireNoOtherRunningJob(jobId);
+        CandidateReindexJob job = findJob(jobId);
+        if (job.getStatus() == CandidateReindexJob.Status.COMPLETED) {
+            throw new RuntimeException("Reindex job already completed");
+        }
+        if (job.getStatus() == CandidateReindexJob.Status.FAILED) {
+            // Writes made while the job was down never reached its index
+            elasticsearchOperations.indexOps(IndexCoordinates.of(job.getTargetIndex())).delete();
+            createIndex(job.getTargetIndex());
+            job.setLastCandidateId(null);
+            job.setDocsIndexed(0);
+        }
+        if (maxDocsPerSecond != null) {
+            job.setMaxDocsPerSecond(maxDocsPerSecond);
+        }
+        job.setStatus(CandidateReindexJob.Status.RUNNING);
+        job.setError(null);
+        job = jobRepository.save(job);
+        log.info("Resuming candidate reindex {} after candidate {}", jobId, job.getLastCandidateId());
+        launch(job);
+        return toResponse(job);
+    }
+
+    public CandidateReindexJobResponse pauseReindex(UUID jobId) {
+        if (!jobId.equals(activeJob.get())) {
+            throw new RuntimeException("Reindex job is not running");
+        }
+        pauseRequested.set(true);
+        return toResponse(findJob(jobId));
+    }
+
+    public CandidateReindexJobResponse getReindexJob(UUID jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    private void launch(CandidateReindexJob job) {
+        if (!activeJob.compareAndSet(null, job.getId())) {
+            throw new RuntimeException("Another reindex job is already running: " + activeJob.get());
+        }
+        pauseRequested.set(false);
+        // The job row is RUNNING now, so every replica starts mirroring live writes into its index
+        indexingQueue.refreshShadowIndexes();
+        try {
+            reindexExecutor.execute(() -> run(job));
+        } catch (RuntimeException e) {
+            activeJob.set(null);
+            finish(job, CandidateReindexJob.Status.FAILED, e.getMessage());
+            throw e;
+        }
+    }
+
+    private void run(CandidateReindexJob job) {
+        IndexCoordinates target = IndexCoordinates.of(job.getTargetIndex());
+        UUID afterId = job.getLastCandidateId() != null ? job.getLastCandidateId() : MIN_UUID;
+        Deque<PageLoad> inFlight = new ArrayDeque<>();
+        long runStartNanos = System.nanoTime();
+        long docsThisRun = 0;
+
+        try {
+            if (job.getLastCandidateId() == null) {
+                // A page read before another replica mirrors could miss that replica's next write
+                Thread.sleep(indexingQueue.mirrorPropagationDelay().toMillis());
+            }
+            while (!pauseRequested.get()) {
+                UUID from = afterId;
+                List<Candidate> page = readTransaction.execute(status -> candidateRepository.findBatchAfter(from, pageSize));
+                if (page == null || page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+                inFlight.add(new PageLoad(afterId, CompletableFuture.supplyAsync(() -> load(page, target), reindexExecutor)));
+                while (inFlight.size() >= workers) {
+                    checkpoint(job, inFlight.poll());
+                }
+
+                docsThisRun += page.size();
+                throttle(job.getMaxDocsPerSecond(), docsThisRun, runStartNanos);
+            }
+            while (!inFlight.isEmpty()) {
+                checkpoint(job, inFlight.poll());
+            }
+
+            if (pauseRequested.get()) {
+                finish(job, CandidateReindexJob.Status.PAUSED, null);
+                log.info("Candidate reindex {} paused after {} documents", job.getId(), job.getDocsIndexed());
+                return;
+            }
+
+            elasticsearchOperations.indexOps(target).refresh();
+            swapAlias(job.getTargetIndex());
+            finish(job, CandidateReindexJob.Status.COMPLETED, null);
+            log.info("Candidate reindex {} completed: {} documents into {}",
+                    job.getId(), job.getDocsIndexed(), job.getTargetIndex());
+        } catch (Exception e) {
+            log.error("Candidate reindex {} failed", job.getId(), e);
+            inFlight.forEach(load -> load.future.cancel(false));
+            finish(job, CandidateReindexJob.Status.FAILED, e.getMessage());
+        } finally {
+            activeJob.set(null);
+            indexingQueue.refreshShadowIndexes();
+        }
+    }
+
+    private int load(List<Candidate> page, IndexCoordinates target) {
+        try {
+            elasticsearchOperations.bulkIndex(page.stream()
+                    .map(candidate -> CandidateIndexingQueue.versionedQuery(searchService.mapToDocument(candidate),
+                            candidate.getVersion() != null ? candidate.getVersion() : 0L))
+                    .collect(Collectors.toList()), target);
+        } catch (BulkFailureException e) {
+            // Version conflicts mean a mirrored write got there first with newer data
+            long failed = e.getFailedDocuments().values().stream()
+                    .filter(failure -> !CandidateIndexingQueue.isVersionConflict(failure))
+                    .count();
+            if (failed > 0) {
+                throw new RuntimeException(failed + " of " + page.size() + " candidates failed to index", e);
+            }
+        }
+
+        // Deleted since the page was read: the mirrored delete may have landed before this load
+        Set<UUID> deleted = new HashSet<>();
+        page.forEach(candidate -> deleted.add(candidate.getId()));
+        readTransaction.execute(status -> candidateRepository.findIdsByIdIn(deleted)).forEach(deleted::remove);
+        for (UUID candidateId : deleted) {
+            elasticsearchOperations.delete(candidateId.toString(), target);
+        }
+        return page.size();
+    }
+
+    // Pages complete out of order, so only advance the checkpoint past the oldest page
+    private void checkpoint(CandidateReindexJob job, PageLoad load) {
+        int loaded = load.future.join();
+        job.setDocsIndexed(job.getDocsIndexed() + loaded);
+        job.setLastCandidateId(load.lastCandidateId);
+        job.setUpdatedAt(LocalDateTime.now());
+        jobRepository.save(job);
+    }
+
+    private void throttle(Integer maxDocsPerSecond, long docs, long startNanos) throws InterruptedException {
+        if (maxDocsPerSecond == null || maxDocsPerSecond <= 0) {
+            return;
+        }
+        long expectedNanos = docs * 1_000_000_000L / maxDocsPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+        if (aheadNanos > 0) {
+            Thread.sleep(aheadNanos / 1_000_000L, (int) (aheadNanos % 1_000_000L));
+        }
+    }
+
+    private void swapAlias(String targetIndex) {
+        IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS));
+        Map<String, Set<AliasData>> current;
+        try {
+            current = aliasOps.getAliases(ALIAS);
+        } catch (Exception e) {
+            current = Collections.emptyMap();
+        }
+
+        List<AliasAction> actions = new ArrayList<>();
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(targetIndex)
+                .withAliases(ALIAS)
+                .build()));
+        if (current.isEmpty() && aliasOps.exists()) {
+            // First rebuild: "candidates" is still the concrete index created by the repository
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                    .withIndices(ALIAS)
+                    .build()));
+        } else {
+            current.keySet().stream()
+                    .filter(index -> !index.equals(targetIndex))
+                    .forEach(index -> actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                            .withIndices(index)
+                            .withAliases(ALIAS)
+                            .build())));
+        }
+        aliasOps.alias(new AliasActions(actions.toArray(new AliasAction[0])));
+        log.info("Alias {} now points to {} (previous: {})", ALIAS, targetIndex, current.keySet());
+    }
+
+    private void createIndex(String indexName) {
+        IndexOperations entityOps = elasticsearchOperations.indexOps(CandidateDocument.class);
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName))
+                .create(entityOps.createSettings(), entityOps.createMapping());
+    }
+
+    private void finish(CandidateReindexJob job, CandidateReindexJob.Status status, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        job.setStatus(status);
+        job.setError(error);
+        job.setUpdatedAt(now);
+        if (status != CandidateReindexJob.Status.PAUSED) {
+            job.setFinishedAt(now);
+        }
+        jobRepository.save(job);
+    }
+
+    private CandidateReindexJob findJob(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Reindex job not found"));
+    }
+
+    // Jobs may be started on any replica; activeJob only guards this one
+    private void requireNoOtherRunningJob(UUID jobId) {
+        if (jobRepository.existsByStatusAndIdNot(CandidateReindexJob.Status.RUNNING, jobId != null ? jobId : MIN_UUID)) {
+            throw new RuntimeException("Another reindex job is already running");
+        }
+    }
+
+    private void requireElasticsearch() {
+        if (elasticsearchOperations == null) {
+            throw new RuntimeException("Elasticsearch is not enabled");
+        }
+    }
+
+    private CandidateReindexJobResponse toResponse(CandidateReindexJob job) {
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis());
+        return CandidateReindexJobResponse.builder()
+                .jobId(job.getId())
+                .targetIndex(job.getTargetIndex())
+                .status(job.getStatus().name())
+                .docsIndexed(job.getDocsIndexed())
+                .docsPerSecond(job.getDocsIndexed() * 1000.0 / millis)
+                .maxDocsPerSecond(job.getMaxDocsPerSecond())
+                .lastCandidateId(job.getLastCandidateId())
+                .error(job.getError())
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    private static final class PageLoad {
+        private final UUID lastCandidateId;
+        private final CompletableFuture<Integer> future;
+
+        private PageLoad(UUID lastCandidateId, CompletableFuture<Integer> future) {
+            this.lastCandidateId = lastCandidateId;
+            this.future = future;
+        }
+    }
+}
@@ -5,14 +5,14 @@ import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.UUID;
 
@@ -26,9 +26,11 @@ public class ResumeParserService {
     @Value("${integration.resume-parser.url:http://ai-resume-parser:8000}")
     private String resumeParserUrl;
 
+    // Callers hold a ResumeUploadBudget lease around this call, so local back-pressure never
+    // counts as a parser failure for the retry or the circuit breaker
     @CircuitBreaker(name = "resumeParser", fallbackMethod = "parseResumeFallback")
     @Retry(name = "resumeParser")
-    public Map<String, Object> parseResume(UUID candidateId, MultipartFile resumeFile) {
+    public Map<String, Object> parseResume(UUID candidateId, Path resumeFile, String fileName) {
         try {
             log.info("Parsing resume for candidate: {}", candidateId);
 
@@ -36,10 +38,11 @@ public class ResumeParserService {
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", new ByteArrayResource(resumeFile.getBytes()) {
+            // Streamed from disk by the form converter; each retry re-reads the file instead of a heap copy
+            body.add("file", new FileSystemResource(resumeFile) {
                 @Override
                 public String getFilename() {
-                    return resumeFile.getOriginalFilename();
+                    return fileName != null ? fileName : super.getFilename();
                 }
             });
 
@@ -61,7 +64,7 @@ public class ResumeParserService {
         }
     }
 
-    public Map<String, Object> parseResumeFallback(UUID candidateId, MultipartFile resumeFile, Exception e) {
+    public Map<String, Object> parseResumeFallback(UUID candidateId, Path resumeFile, String fileName, Exception e) {
         log.warn("Resume parser service unavailable, using fallback for candidate: {}", candidateId);
         return Map.of(
             "status", "fallback",
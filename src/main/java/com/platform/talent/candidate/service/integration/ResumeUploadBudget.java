@@ -0,0 +1,92 @@
+package com.platform.talent.candidate.service.integration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the bytes of resume uploads being sent to the parser at once. Permits are weighted
+ * by file size, so a few large resumes queue behind each other while many small ones run
+ * concurrently.
+ */
+@Component
+public class ResumeUploadBudget {
+
+    private static final long PERMIT_BYTES = 1024;
+
+    private final Semaphore permits;
+    private final int totalPermits;
+    private final Duration maxWait;
+    private final AtomicLong bytesInFlight = new AtomicLong();
+    private final DistributionSummary uploadSize;
+    private final Timer waitTimer;
+
+    public ResumeUploadBudget(MeterRegistry meterRegistry,
+                              @Value("${integration.resume-parser.in-flight-budget:64MB}") DataSize budget,
+                              @Value("${integration.resume-parser.budget-wait:30s}") Duration maxWait) {
+        this.totalPermits = (int) Math.max(1, budget.toBytes() / PERMIT_BYTES);
+        this.permits = new Semaphore(totalPermits, true);
+        this.maxWait = maxWait;
+        Gauge.builder("resume.parser.bytes.in.flight", bytesInFlight, AtomicLong::get)
+                .description("Resume bytes currently being uploaded to the parser")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.uploadSize = DistributionSummary.builder("resume.parser.upload.size")
+                .description("Size of resumes sent to the parser")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("resume.parser.budget.wait")
+                .description("Time spent waiting for upload budget")
+                .register(meterRegistry);
+    }
+
+    public Lease acquire(long bytes) {
+        // A file larger than the whole budget still runs, just alone
+        int needed = (int) Math.min(totalPermits, Math.max(1, (bytes + PERMIT_BYTES - 1) / PERMIT_BYTES));
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(needed, maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted waiting for resume upload budget", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            throw new RuntimeException("Resume upload budget exhausted, try again later");
+        }
+        bytesInFlight.addAndGet(bytes);
+        uploadSize.record(bytes);
+        return new Lease(needed, bytes);
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final int leasedPermits;
+        private final long bytes;
+        private boolean released;
+
+        private Lease(int leasedPermits, long bytes) {
+            this.leasedPermits = leasedPermits;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                bytesInFlight.addAndGet(-bytes);
+                permits.release(leasedPermits);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.platform.talent.candidate.service.mapping;
+
+import com.platform.talent.candidate.api.dto.CandidateResponse;
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.CandidateDetails;
+import com.platform.talent.candidate.search.CandidateDocument;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single place that copies {@link Candidate} state into its API and search representations.
+ * Fields are assigned straight onto the target, so each mapping allocates exactly one object
+ * instead of a Lombok builder plus the target.
+ */
+@Component
+public class CandidateMapper {
+
+    // List views: the CandidateDetails parts are left null
+    public CandidateResponse toResponse(Candidate candidate) {
+        return toResponse(candidate, null);
+    }
+
+    public CandidateResponse toResponse(Candidate candidate, CandidateDetails details) {
+        CandidateResponse response = new CandidateResponse();
+        response.setId(candidate.getId());
+        response.setTenantId(candidate.getTenantId());
+        response.setFirstName(candidate.getFirstName());
+        response.setLastName(candidate.getLastName());
+        response.setEmail(candidate.getEmail());
+        response.setPhone(candidate.getPhone());
+        response.setLocation(candidate.getLocation());
+        response.setCity(candidate.getCity());
+        response.setCountry(candidate.getCountry());
+        response.setStatus(candidate.getStatus());
+        response.setPipelineStage(candidate.getPipelineStage());
+        response.setSource(candidate.getSource());
+        response.setReferredBy(candidate.getReferredBy());
+        response.setSummary(candidate.getSummary());
+        response.setYearsOfExperience(candidate.getYearsOfExperience());
+        response.setCurrentCompany(candidate.getCurrentCompany());
+        response.setCurrentPosition(candidate.getCurrentPosition());
+        response.setExpectedSalary(candidate.getExpectedSalary());
+        response.setSalaryCurrency(candidate.getSalaryCurrency());
+        response.setNoticePeriodDays(candidate.getNoticePeriodDays());
+        response.setSkills(candidate.getSkills());
+        if (details != null) {
+            response.setResumeData(details.getResumeData());
+            response.setEducation(details.getEducation());
+            response.setWorkExperience(details.getWorkExperience());
+        }
+        response.setCertifications(candidate.getCertifications());
+        response.setLanguages(candidate.getLanguages());
+        response.setResumeUrl(candidate.getResumeUrl());
+        response.setLinkedinUrl(candidate.getLinkedinUrl());
+        response.setGithubUrl(candidate.getGithubUrl());
+        response.setPortfolioUrl(candidate.getPortfolioUrl());
+        response.setIsAvailable(candidate.getIsAvailable());
+        response.setIsRemoteInterested(candidate.getIsRemoteInterested());
+        response.setIsRelocationInterested(candidate.getIsRelocationInterested());
+        response.setRating(candidate.getRating());
+        response.setLastContactedAt(candidate.getLastContactedAt());
+        response.setCreatedAt(candidate.getCreatedAt());
+        response.setUpdatedAt(candidate.getUpdatedAt());
+        response.setVersion(candidate.getVersion());
+        return response;
+    }
+
+    public CandidateDocument toDocument(Candidate candidate) {
+        CandidateDocument document = new CandidateDocument();
+        document.setId(candidate.getId().toString());
+        document.setTenantId(candidate.getTenantId());
+        document.setFirstName(candidate.getFirstName());
+        document.setLastName(candidate.getLastName());
+        document.setEmail(candidate.getEmail());
+        document.setPhone(candidate.getPhone());
+        document.setLocation(candidate.getLocation());
+        document.setCity(candidate.getCity());
+        document.setCountry(candidate.getCountry());
+        document.setStatus(candidate.getStatus().name());
+        document.setPipelineStage(candidate.getPipelineStage() != null ? candidate.getPipelineStage().name() : null);
+        document.setSummary(candidate.getSummary());
+        document.setYearsOfExperience(candidate.getYearsOfExperience());
+        document.setCurrentCompany(candidate.getCurrentCompany());
+        document.setCurrentPosition(candidate.getCurrentPosition());
+        document.setSkills(candidate.getSkills());
+        document.setCertifications(candidate.getCertifications());
+        document.setLanguages(candidate.getLanguages());
+        document.setSource(candidate.getSource());
+        document.setExpectedSalary(candidate.getExpectedSalary());
+        document.setSalaryCurrency(candidate.getSalaryCurrency());
+        document.setIsAvailable(candidate.getIsAvailable());
+        document.setIsRemoteInterested(candidate.getIsRemoteInterested());
+        document.setIsRelocationInterested(candidate.getIsRelocationInterested());
+        document.setRating(candidate.getRating());
+        document.setCreatedAt(candidate.getCreatedAt());
+        document.setUpdatedAt(candidate.getUpdatedAt());
+        return document;
+    }
+}
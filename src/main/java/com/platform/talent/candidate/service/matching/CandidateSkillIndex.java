@@ -0,0 +1,207 @@
+package com.platform.talent.candidate.service.matching;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.candidate.api.dto.CandidateMatchRequest;
+import com.platform.talent.candidate.api.dto.CandidateMatchResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-tenant in-memory skill index behind the match endpoint. Built from ggj_candidates on
+ * startup and rebuilt periodically; in between, {@link CandidateSkillIndexListener} marks
+ * candidates changed on any replica and {@link #refresh()} re-reads just those rows, so the
+ * index trails the database by roughly the outbox relay plus refresh interval.
+ */
+@Component
+@ConditionalOnProperty(name = "candidate.skill-index.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CandidateSkillIndex {
+
+    private static final TypeReference<List<String>> SKILLS = new TypeReference<>() {};
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, tenant_id, skills, years_of_experience, expected_salary FROM ggj_candidates ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, TenantSkillIndex> indexes = new ConcurrentHashMap<>();
+    // Changed candidate -> tenant, drained by refresh()
+    private final Map<UUID, UUID> dirty = new ConcurrentHashMap<>();
+    // Serializes rebuilds and refreshes; neither may apply an older row over a newer one
+    private final ReentrantLock maintenance = new ReentrantLock();
+    private volatile boolean built;
+
+    @Value("${candidate.skill-index.fetch-size:5000}")
+    private int fetchSize;
+
+    @Value("${candidate.skill-index.refresh-batch-size:1000}")
+    private int refreshBatchSize;
+
+    public CandidateSkillIndex(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        Gauge.builder("candidate.skill.index.candidates", indexes,
+                        map -> map.values().stream().mapToLong(TenantSkillIndex::liveCount).sum())
+                .register(meterRegistry);
+        Gauge.builder("candidate.skill.index.bytes", indexes,
+                        map -> map.values().stream().mapToLong(TenantSkillIndex::sizeInBytes).sum())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("candidate.skill.index.pending", dirty, Map::size)
+                .register(meterRegistry);
+    }
+
+    public CandidateMatchResponse match(UUID tenantId, CandidateMatchRequest request) {
+        long started = System.nanoTime();
+        TenantSkillIndex index = indexes.get(tenantId);
+        if (index == null) {
+            if (!built) {
+                throw new RuntimeException("Skill index is not ready yet");
+            }
+            // No candidates with this tenant yet
+            return CandidateMatchResponse.builder().matches(List.of()).build();
+        }
+        int[] totalMatched = new int[1];
+        List<CandidateMatchResponse.Match> matches = index.match(
+                request.getRequiredSkills(), request.getOptionalSkills(),
+                request.getMinExperience(), request.getMaxExperience(), request.getMaxSalary(),
+                request.getLimit(), totalMatched);
+        return CandidateMatchResponse.builder()
+                .totalMatched(totalMatched[0])
+                .tookMicros((System.nanoTime() - started) / 1_000)
+                .matches(matches)
+                .build();
+    }
+
+    public void markChanged(UUID tenantId, UUID candidateId) {
+        dirty.put(candidateId, tenantId);
+    }
+
+    @Scheduled(initialDelayString = "${candidate.skill-index.initial-delay-ms:0}",
+               fixedDelayString = "${candidate.skill-index.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        maintenance.lock();
+        try {
+            long started = System.currentTimeMillis();
+            List<UUID> tenantIds = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT tenant_id FROM ggj_candidates", UUID.class);
+            for (UUID tenantId : tenantIds) {
+                try {
+                    indexes.put(tenantId, load(tenantId));
+                } catch (Exception e) {
+                    log.warn("Failed to build skill index for tenant {}", tenantId, e);
+                }
+            }
+            indexes.keySet().retainAll(new HashSet<>(tenantIds));
+            built = true;
+            log.info("Built skill indexes for {} tenants in {} ms",
+                    tenantIds.size(), System.currentTimeMillis() - started);
+        } finally {
+            maintenance.unlock();
+        }
+        // Changes that landed while the snapshot was read
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${candidate.skill-index.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (dirty.isEmpty() || !maintenance.tryLock()) {
+            return;
+        }
+        try {
+            while (!dirty.isEmpty()) {
+                // Unmarked before the read, so a change committed after it is marked again
+                Map<UUID, UUID> batch = new HashMap<>();
+                Iterator<Map.Entry<UUID, UUID>> iterator = dirty.entrySet().iterator();
+                while (iterator.hasNext() && batch.size() < refreshBatchSize) {
+                    Map.Entry<UUID, UUID> entry = iterator.next();
+                    batch.put(entry.getKey(), entry.getValue());
+                    iterator.remove();
+                }
+                try {
+                    apply(batch);
+                } catch (Exception e) {
+                    batch.forEach(dirty::putIfAbsent);
+                    log.warn("Failed to refresh skill index, will retry on next run", e);
+                    return;
+                }
+            }
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    private void apply(Map<UUID, UUID> batch) {
+        Set<UUID> found = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_COLUMNS + "WHERE id = ANY(?)");
+            ps.setArray(1, connection.createArrayOf("uuid", batch.keySet().toArray()));
+            return ps;
+        }, rs -> {
+            UUID tenantId = rs.getObject(2, UUID.class);
+            upsert(indexes.computeIfAbsent(tenantId, id -> new TenantSkillIndex()), rs);
+            found.add(rs.getObject(1, UUID.class));
+        });
+        batch.forEach((candidateId, tenantId) -> {
+            if (!found.contains(candidateId)) {
+                TenantSkillIndex index = indexes.get(tenantId);
+                if (index != null) {
+                    index.remove(candidateId);
+                }
+            }
+        });
+    }
+
+    private TenantSkillIndex load(UUID tenantId) {
+        TenantSkillIndex index = new TenantSkillIndex();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_COLUMNS + "WHERE tenant_id = ?");
+            ps.setFetchSize(fetchSize);
+            ps.setObject(1, tenantId);
+            return ps;
+        }, rs -> {
+            upsert(index, rs);
+        }));
+        index.optimize();
+        return index;
+    }
+
+    private void upsert(TenantSkillIndex index, ResultSet rs) throws SQLException {
+        String skillsJson = rs.getString(3);
+        List<String> skills;
+        try {
+            skills = skillsJson != null ? objectMapper.readValue(skillsJson, SKILLS) : List.of();
+        } catch (IOException e) {
+            log.warn("Skipping unreadable skills for candidate {}", rs.getObject(1, UUID.class));
+            skills = new ArrayList<>();
+        }
+        index.upsert(rs.getObject(1, UUID.class), skills,
+                (Integer) rs.getObject(4), (Double) rs.getObject(5));
+    }
+}
@@ -0,0 +1,49 @@
+package com.platform.talent.candidate.service.matching;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.talent.candidate.service.event.CandidateOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Marks candidates changed on any replica for re-reading into the skill index. Like the
+ * cache invalidation listener, each instance reads every partition without a consumer
+ * group, starting at the latest offset; the startup build covers everything before that.
+ */
+@Component
+@ConditionalOnProperty(name = "candidate.skill-index.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateSkillIndexListener {
+
+    private final CandidateSkillIndex skillIndex;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topicPartitions = @TopicPartition(
+                    topic = CandidateOutboxRelay.TOPIC,
+                    partitions = "#{@candidateEventPartitions.all()}"),
+            properties = {
+                    "auto.offset.reset=latest",
+                    "enable.auto.commit=false",
+                    "key.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer"
+            })
+    public void onCandidateEvent(String message) {
+        try {
+            JsonNode event = objectMapper.readTree(message);
+            skillIndex.markChanged(
+                    UUID.fromString(event.path("tenantId").asText()),
+                    UUID.fromString(event.path("candidateId").asText()));
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable candidate event: {}", e.getMessage());
+        }
+    }
+}
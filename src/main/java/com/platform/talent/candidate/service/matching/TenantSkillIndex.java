@@ -0,0 +1,290 @@
+package com.platform.talent.candidate.service.matching;
+
+import com.platform.talent.candidate.api.dto.CandidateMatchResponse;
+import com.platform.talent.candidate.domain.repository.SkillTermRepository;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * One tenant's skill postings: normalized skill -> bitmap of candidate ordinals, with
+ * experience and salary kept in parallel primitive arrays. Matching touches only the
+ * bitmaps and arrays; ids are materialized for the returned top matches alone.
+ * Ordinals of removed candidates are not reused until the index is rebuilt.
+ */
+final class TenantSkillIndex {
+
+    private static final int[] NO_SKILLS = new int[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Write path only
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final Map<String, Integer> skillIds = new HashMap<>();
+
+    private final List<String> skillNames = new ArrayList<>();
+    private final List<RoaringBitmap> postings = new ArrayList<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+
+    private long[] idHigh = new long[1024];
+    private long[] idLow = new long[1024];
+    private int[] experience = new int[1024];
+    private double[] salary = new double[1024];
+    private int[][] skillsByOrdinal = new int[1024][];
+    private int size;
+
+    void upsert(UUID candidateId, Collection<String> skills, Integer yearsOfExperience, Double expectedSalary) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(candidateId);
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                for (int skillId : skillsByOrdinal[ordinal]) {
+                    postings.get(skillId).remove(ordinal);
+                }
+            } else {
+                ordinal = size++;
+                ensureCapacity(size);
+                ordinals.put(candidateId, ordinal);
+                idHigh[ordinal] = candidateId.getMostSignificantBits();
+                idLow[ordinal] = candidateId.getLeastSignificantBits();
+            }
+
+            int[] ids = skills == null || skills.isEmpty() ? NO_SKILLS : skills.stream()
+                    .map(SkillTermRepository::normalize)
+                    .filter(skill -> !skill.isEmpty())
+                    .distinct()
+                    .mapToInt(this::skillId)
+                    .toArray();
+            for (int skillId : ids) {
+                postings.get(skillId).add(ordinal);
+            }
+            skillsByOrdinal[ordinal] = ids;
+            experience[ordinal] = yearsOfExperience != null ? yearsOfExperience : -1;
+            salary[ordinal] = expectedSalary != null ? expectedSalary : Double.NaN;
+            live.add(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID candidateId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(candidateId);
+            if (ordinal == null || !live.contains(ordinal)) {
+                return;
+            }
+            for (int skillId : skillsByOrdinal[ordinal]) {
+                postings.get(skillId).remove(ordinal);
+            }
+            skillsByOrdinal[ordinal] = NO_SKILLS;
+            live.remove(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void optimize() {
+        lock.writeLock().lock();
+        try {
+            postings.forEach(RoaringBitmap::runOptimize);
+            live.runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int liveCount() {
+        lock.readLock().lock();
+        try {
+            return live.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = live.getLongSizeInBytes() + (long) idHigh.length * (8 + 8 + 4 + 8 + 4);
+            for (RoaringBitmap posting : postings) {
+                bytes += posting.getLongSizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<CandidateMatchResponse.Match> match(List<String> requiredSkills, Map<String, Double> optionalSkills,
+                                             Integer minExperience, Integer maxExperience, Double maxSalary,
+                                             int limit, int[] totalMatched) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap[] required = resolve(requiredSkills);
+            if (required == null) {
+                return List.of(); // A required skill nobody has
+            }
+
+            List<String> optionalNames = new ArrayList<>();
+            List<RoaringBitmap> optionalPostings = new ArrayList<>();
+            double[] weights = new double[optionalSkills != null ? optionalSkills.size() : 0];
+            double totalWeight = 0;
+            if (optionalSkills != null) {
+                for (Map.Entry<String, Double> entry : optionalSkills.entrySet()) {
+                    double weight = entry.getValue() != null ? entry.getValue() : 1.0;
+                    totalWeight += weight;
+                    Integer skillId = skillIds.get(SkillTermRepository.normalize(entry.getKey()));
+                    if (skillId != null && weight > 0) {
+                        weights[optionalPostings.size()] = weight;
+                        optionalNames.add(skillNames.get(skillId));
+                        optionalPostings.add(postings.get(skillId));
+                    }
+                }
+            }
+
+            RoaringBitmap candidates;
+            if (required.length > 0) {
+                // Smallest posting first keeps every intermediate result small
+                Arrays.sort(required, (a, b) -> Integer.compare(a.getCardinality(), b.getCardinality()));
+                candidates = RoaringBitmap.and(required[0], live);
+                for (int i = 1; i < required.length && !candidates.isEmpty(); i++) {
+                    candidates.and(required[i]);
+                }
+            } else if (!optionalPostings.isEmpty()) {
+                candidates = FastAggregation.or(optionalPostings.iterator());
+            } else {
+                candidates = live;
+            }
+
+            // Top-k kept in primitive arrays, ordered by score then experience
+            int[] topOrdinals = new int[limit];
+            double[] topScores = new double[limit];
+            int topSize = 0;
+            int matched = 0;
+
+            IntIterator iterator = candidates.getIntIterator();
+            while (iterator.hasNext()) {
+                int ordinal = iterator.next();
+                if (!passes(ordinal, minExperience, maxExperience, maxSalary)) {
+                    continue;
+                }
+                matched++;
+
+                double score = 0;
+                for (int i = 0; i < optionalPostings.size(); i++) {
+                    if (optionalPostings.get(i).contains(ordinal)) {
+                        score += weights[i];
+                    }
+                }
+                score = totalWeight > 0 ? score / totalWeight : 1.0;
+
+                if (topSize < limit) {
+                    topSize++;
+                } else if (!ranksAbove(score, ordinal, topScores[limit - 1], topOrdinals[limit - 1])) {
+                    continue;
+                }
+                int position = topSize - 1;
+                while (position > 0 && ranksAbove(score, ordinal, topScores[position - 1], topOrdinals[position - 1])) {
+                    topScores[position] = topScores[position - 1];
+                    topOrdinals[position] = topOrdinals[position - 1];
+                    position--;
+                }
+                topScores[position] = score;
+                topOrdinals[position] = ordinal;
+            }
+            totalMatched[0] = matched;
+
+            List<CandidateMatchResponse.Match> matches = new ArrayList<>(topSize);
+            for (int i = 0; i < topSize; i++) {
+                int ordinal = topOrdinals[i];
+                List<String> matchedSkills = new ArrayList<>();
+                for (int j = 0; j < optionalPostings.size(); j++) {
+                    if (optionalPostings.get(j).contains(ordinal)) {
+                        matchedSkills.add(optionalNames.get(j));
+                    }
+                }
+                matches.add(CandidateMatchResponse.Match.builder()
+                        .candidateId(new UUID(idHigh[ordinal], idLow[ordinal]))
+                        .score(topScores[i])
+                        .matchedSkills(matchedSkills)
+                        .yearsOfExperience(experience[ordinal] >= 0 ? experience[ordinal] : null)
+                        .expectedSalary(Double.isNaN(salary[ordinal]) ? null : salary[ordinal])
+                        .build());
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Null when any required skill is unknown to this tenant
+    private RoaringBitmap[] resolve(List<String> skills) {
+        if (skills == null) {
+            return new RoaringBitmap[0];
+        }
+        List<RoaringBitmap> resolved = new ArrayList<>(skills.size());
+        for (String skill : skills) {
+            Integer skillId = skillIds.get(SkillTermRepository.normalize(skill));
+            if (skillId == null) {
+                return null;
+            }
+            resolved.add(postings.get(skillId));
+        }
+        return resolved.toArray(new RoaringBitmap[0]);
+    }
+
+    private boolean passes(int ordinal, Integer minExperience, Integer maxExperience, Double maxSalary) {
+        int years = experience[ordinal];
+        if (minExperience != null && (years < 0 || years < minExperience)) {
+            return false;
+        }
+        if (maxExperience != null && years > maxExperience) {
+            return false;
+        }
+        // Candidates without an expected salary are not excluded by a budget
+        return maxSalary == null || Double.isNaN(salary[ordinal]) || salary[ordinal] <= maxSalary;
+    }
+
+    private boolean ranksAbove(double score, int ordinal, double otherScore, int otherOrdinal) {
+        if (score != otherScore) {
+            return score > otherScore;
+        }
+        return experience[ordinal] > experience[otherOrdinal];
+    }
+
+    private int skillId(String skill) {
+        Integer existing = skillIds.get(skill);
+        if (existing != null) {
+            return existing;
+        }
+        int skillId = skillNames.size();
+        skillIds.put(skill, skillId);
+        skillNames.add(skill);
+        postings.add(new RoaringBitmap());
+        return skillId;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= idHigh.length) {
+            return;
+        }
+        int capacity = Math.max(required, idHigh.length + (idHigh.length >> 1));
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        experience = Arrays.copyOf(experience, capacity);
+        salary = Arrays.copyOf(salary, capacity);
+        skillsByOrdinal = Arrays.copyOf(skillsByOrdinal, capacity);
+    }
+}
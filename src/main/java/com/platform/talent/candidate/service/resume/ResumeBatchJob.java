@@ -0,0 +1,98 @@
+package com.platform.talent.candidate.service.resume;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A batch while it runs on the replica that received it. Outcomes are written to the
+ * files' ggj_resume_parse_jobs rows as they happen; this only carries parsed results from
+ * the parse step to the batched write.
+ */
+@Getter
+public class ResumeBatchJob {
+
+    private final UUID id;
+    private final UUID tenantId;
+    private final LocalDateTime createdAt;
+    private final List<Item> items = new CopyOnWriteArrayList<>();
+
+    public ResumeBatchJob(UUID tenantId) {
+        this.id = UUID.randomUUID();
+        this.tenantId = tenantId;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    Item addItem(String fileName, UUID candidateId) {
+        Item item = new Item(items.size(), fileName, candidateId);
+        items.add(item);
+        return item;
+    }
+
+    @Getter
+    public static class Item {
+
+        public enum Status {
+            QUEUED,
+            PARSED,
+            APPLIED,
+            SKIPPED,
+            FAILED,
+            // Claimed by parse job recovery; its outcome is recorded there
+            RELEASED
+        }
+
+        private final UUID id = UUID.randomUUID();
+        private final int position;
+        private final String fileName;
+        private final UUID candidateId;
+
+        private volatile Status status = Status.QUEUED;
+        private volatile boolean fromCache;
+        private volatile String error;
+        private volatile ResumeFileStore.StoredResume stored;
+        // Held only between parsing and the batched write
+        private volatile Map<String, Object> parsedData;
+
+        Item(int position, String fileName, UUID candidateId) {
+            this.position = position;
+            this.fileName = fileName;
+            this.candidateId = candidateId;
+        }
+
+        void stored(ResumeFileStore.StoredResume stored) {
+            this.stored = stored;
+        }
+
+        void parsed(Map<String, Object> parsedData, boolean fromCache) {
+            this.parsedData = parsedData;
+            this.fromCache = fromCache;
+            this.status = Status.PARSED;
+        }
+
+        void applied() {
+            this.parsedData = null;
+            this.status = Status.APPLIED;
+        }
+
+        void skip(String reason) {
+            this.parsedData = null;
+            this.error = reason;
+            this.status = Status.SKIPPED;
+        }
+
+        void fail(String reason) {
+            this.parsedData = null;
+            this.error = reason;
+            this.status = Status.FAILED;
+        }
+
+        void release() {
+            this.status = Status.RELEASED;
+        }
+    }
+}
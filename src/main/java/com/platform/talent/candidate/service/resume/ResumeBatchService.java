@@ -0,0 +1,445 @@
+package com.platform.talent.candidate.service.resume;
+
+import com.platform.talent.candidate.api.dto.ResumeBatchItemResponse;
+import com.platform.talent.candidate.api.dto.ResumeBatchJobResponse;
+import com.platform.talent.candidate.domain.model.ResumeParseJob;
+import com.platform.talent.candidate.domain.repository.CandidateRepository;
+import com.platform.talent.candidate.domain.repository.ResumeParseJobRepository;
+import com.platform.talent.candidate.service.CandidateService;
+import com.platform.talent.candidate.service.integration.ResumeParserService;
+import com.platform.talent.candidate.service.integration.ResumeUploadBudget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Parses many resumes in one request: files are spooled (and hashed) up front, parsed on
+ * a bounded pool that shares the parser's upload budget, and applied with
+ * chunked saveAll calls plus a bulk reindex. Outcomes are reported per file.
+ *
+ * <p>Every file is a ggj_resume_parse_jobs row tagged with the batch, so any replica can
+ * report a batch and its status is derived from the rows. While the batch runs here its
+ * rows get a heartbeat; if this replica restarts, {@link ResumeParseService} recovery
+ * finishes its unfinished files one by one, reusing results already in the parse cache.
+ * Files of a replica that never comes back are failed like its other orphaned jobs.
+ */
+@Service
+@Slf4j
+public class ResumeBatchService {
+
+    private static final List<ResumeParseJob.Status> UNFINISHED =
+            List.of(ResumeParseJob.Status.QUEUED, ResumeParseJob.Status.RUNNING);
+
+    // Batches running on this replica
+    private final Map<UUID, ResumeBatchJob> active = new ConcurrentHashMap<>();
+
+    private final ResumeParseJobRepository jobRepository;
+    private final CandidateRepository candidateRepository;
+    private final CandidateService candidateService;
+    private final ResumeParserService resumeParserService;
+    private final ResumeUploadBudget uploadBudget;
+    private final ResumeFileStore fileStore;
+    private final ResumeParseCache parseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor batchExecutor;
+
+    @Value("${integration.resume-parser.max-file-size:10MB}")
+    private DataSize maxResumeSize;
+
+    @Value("${candidate.resume.batch.max-files:500}")
+    private int maxFiles;
+
+    @Value("${candidate.resume.batch.max-archive-size:512MB}")
+    private DataSize maxArchiveSize;
+
+    @Value("${candidate.resume.batch.apply-chunk-size:100}")
+    private int applyChunkSize;
+
+    @Value("${candidate.resume.node-id}")
+    private String nodeId;
+
+    public ResumeBatchService(
+        ResumeParseJobRepository jobRepository,
+        CandidateRepository candidateRepository,
+        CandidateService candidateService,
+        ResumeParserService resumeParserService,
+        ResumeUploadBudget uploadBudget,
+        ResumeFileStore fileStore,
+        ResumeParseCache parseCache,
+        TransactionTemplate transactionTemplate,
+        @Qualifier("resumeBatchExecutor") TaskExecutor batchExecutor
+    ) {
+        this.jobRepository = jobRepository;
+        this.candidateRepository = candidateRepository;
+        this.candidateService = candidateService;
+        this.resumeParserService = resumeParserService;
+        this.uploadBudget = uploadBudget;
+        this.fileStore = fileStore;
+        this.parseCache = parseCache;
+        this.transactionTemplate = transactionTemplate;
+        this.batchExecutor = batchExecutor;
+    }
+
+    public ResumeBatchJobResponse submitFiles(UUID tenantId, List<MultipartFile> files, List<UUID> candidateIds) {
+        if (files == null || files.isEmpty()) {
+            throw new RuntimeException("No resumes uploaded");
+        }
+        if (candidateIds == null || candidateIds.size() != files.size()) {
+            throw new RuntimeException("Exactly one candidateId is required per file");
+        }
+        if (files.size() > maxFiles) {
+            throw new RuntimeException("A batch may contain at most " + maxFiles + " resumes");
+        }
+
+        ResumeBatchJob job = new ResumeBatchJob(tenantId);
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+                ResumeBatchJob.Item item = job.addItem(file.getOriginalFilename(), candidateIds.get(i));
+                if (file.getSize() > maxResumeSize.toBytes()) {
+                    item.fail("Resume exceeds maximum size of " + maxResumeSize.toMegabytes() + "MB");
+                    continue;
+                }
+                item.stored(fileStore.store(item.getId(), file));
+            }
+        } catch (RuntimeException e) {
+            discard(job);
+            throw e;
+        }
+        return start(job);
+    }
+
+    public ResumeBatchJobResponse submitArchive(UUID tenantId, MultipartFile archive) {
+        try (InputStream content = archive.getInputStream()) {
+            return submitArchive(tenantId, content);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read resume archive", e);
+        }
+    }
+
+    // Entries are named <candidateId>.<ext>; directories inside the archive are ignored. Large
+    // archives arrive as a raw request body past the multipart limit, so their total is capped here.
+    public ResumeBatchJobResponse submitArchive(UUID tenantId, InputStream archive) {
+        ResumeBatchJob job = new ResumeBatchJob(tenantId);
+        long extracted = 0;
+        try (ZipInputStream zip = new ZipInputStream(archive)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String name = baseName(entry.getName());
+                if (entry.isDirectory() || name.isEmpty() || name.startsWith(".") || entry.getName().startsWith("__MACOSX")) {
+                    continue;
+                }
+                if (job.getItems().size() >= maxFiles) {
+                    throw new RuntimeException("A batch may contain at most " + maxFiles + " resumes");
+                }
+                ResumeBatchJob.Item item = job.addItem(name, candidateIdOf(name));
+                if (item.getCandidateId() == null) {
+                    item.fail("Entry name must be <candidateId>.<extension>");
+                    continue;
+                }
+                ResumeFileStore.StoredResume stored;
+                try {
+                    // Bounded read: the declared entry size cannot be trusted
+                    stored = fileStore.store(item.getId(), zip, maxResumeSize.toBytes());
+                } catch (RuntimeException e) {
+                    item.fail(e.getMessage());
+                    continue;
+                }
+                item.stored(stored);
+                extracted += stored.size();
+                if (extracted > maxArchiveSize.toBytes()) {
+                    throw new RuntimeException("Archive exceeds maximum size of " + maxArchiveSize.toMegabytes() + "MB");
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            discard(job);
+            throw e instanceof RuntimeException runtime ? runtime : new RuntimeException("Failed to read resume archive", e);
+        }
+        if (job.getItems().isEmpty()) {
+            throw new RuntimeException("Archive contains no resumes");
+        }
+        return start(job);
+    }
+
+    public ResumeBatchJobResponse getJob(UUID tenantId, UUID jobId) {
+        List<ResumeParseJob> rows = jobRepository.findByBatchIdAndTenantIdOrderByBatchPosition(jobId, tenantId);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Resume batch not found");
+        }
+        return toResponse(jobId, rows);
+    }
+
+    @Scheduled(fixedDelayString = "${candidate.resume.batch.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (active.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobRepository.touchBatches(
+                    new ArrayList<>(active.keySet()), UNFINISHED, LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("Failed to refresh running resume batches", e);
+        }
+    }
+
+    private ResumeBatchJobResponse start(ResumeBatchJob job) {
+        // One query rejects unknown or foreign candidate ids before any parser call
+        Set<UUID> requested = job.getItems().stream()
+                .map(ResumeBatchJob.Item::getCandidateId)
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+        Set<UUID> existing = requested.isEmpty()
+                ? Set.of()
+                : new HashSet<>(candidateRepository.findExistingIds(job.getTenantId(), requested));
+        for (ResumeBatchJob.Item item : job.getItems()) {
+            if (item.getStatus() == ResumeBatchJob.Item.Status.QUEUED && !existing.contains(item.getCandidateId())) {
+                item.fail("Candidate not found");
+                deleteFile(item);
+            }
+        }
+
+        List<ResumeParseJob> rows;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            rows = transactionTemplate.execute(status -> jobRepository.saveAll(
+                    job.getItems().stream().map(item -> toRow(job, item, now)).toList()));
+        } catch (RuntimeException e) {
+            discard(job);
+            throw e;
+        }
+
+        active.put(job.getId(), job);
+        List<CompletableFuture<Void>> parses = new ArrayList<>();
+        for (ResumeBatchJob.Item item : job.getItems()) {
+            if (item.getStatus() != ResumeBatchJob.Item.Status.QUEUED) {
+                continue;
+            }
+            try {
+                parses.add(CompletableFuture.runAsync(() -> parse(item), batchExecutor));
+            } catch (TaskRejectedException e) {
+                // The row stays QUEUED; recovery parses it once this batch stops its heartbeat
+                item.release();
+            }
+        }
+
+        CompletableFuture.allOf(parses.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, error) -> applyResults(job));
+        log.info("Resume batch {} started with {} files for tenant {}", job.getId(), job.getItems().size(), job.getTenantId());
+        return toResponse(job.getId(), rows);
+    }
+
+    private void parse(ResumeBatchJob.Item item) {
+        Boolean claimed = transactionTemplate.execute(status -> jobRepository.claim(item.getId(),
+                ResumeParseJob.Status.QUEUED, ResumeParseJob.Status.RUNNING, LocalDateTime.now()) == 1);
+        if (!Boolean.TRUE.equals(claimed)) {
+            item.release();
+            return;
+        }
+        try {
+            ResumeFileStore.StoredResume stored = item.getStored();
+            Map<String, Object> cached = parseCache.find(stored.contentHash(), true).orElse(null);
+            if (cached != null) {
+                transactionTemplate.executeWithoutResult(status -> jobRepository.markFromCache(item.getId(), LocalDateTime.now()));
+                item.parsed(cached, true);
+                return;
+            }
+            Map<String, Object> parsedData;
+            // Outside the parser's resilience boundary; an exhausted budget fails this file only
+            try (ResumeUploadBudget.Lease lease = uploadBudget.acquire(stored.size())) {
+                parsedData = resumeParserService.parseResume(item.getCandidateId(), stored.path(), item.getFileName());
+            }
+            if (parsedData == null || "fallback".equals(parsedData.get("status")) || parsedData.containsKey("error")) {
+                fail(List.of(item), "Resume parser unavailable");
+                return;
+            }
+            // Also what recovery reads if this replica stops before the result is applied
+            parseCache.put(stored.contentHash(), stored.size(), parsedData);
+            item.parsed(parsedData, false);
+        } catch (Exception e) {
+            log.warn("Failed to parse resume {} in batch", item.getFileName(), e);
+            fail(List.of(item), e.getMessage());
+        } finally {
+            deleteFile(item);
+        }
+    }
+
+    private void applyResults(ResumeBatchJob job) {
+        try {
+            // Several files for one candidate: the last one in the batch wins
+            Map<UUID, ResumeBatchJob.Item> latest = new LinkedHashMap<>();
+            for (ResumeBatchJob.Item item : job.getItems()) {
+                if (item.getStatus() == ResumeBatchJob.Item.Status.PARSED) {
+                    ResumeBatchJob.Item previous = latest.put(item.getCandidateId(), item);
+                    if (previous != null) {
+                        previous.skip("Superseded by " + item.getFileName());
+                        record(List.of(previous), ResumeParseJob.Status.SKIPPED, previous.getError());
+                    }
+                }
+            }
+
+            List<ResumeBatchJob.Item> ready = new ArrayList<>(latest.values());
+            for (int from = 0; from < ready.size(); from += applyChunkSize) {
+                applyChunk(job, ready.subList(from, Math.min(from + applyChunkSize, ready.size())));
+            }
+        } catch (Exception e) {
+            log.error("Resume batch {} failed while applying results", job.getId(), e);
+        } finally {
+            active.remove(job.getId());
+            log.info("Resume batch {} finished on this replica: {} applied, {} failed", job.getId(),
+                    count(job, ResumeBatchJob.Item.Status.APPLIED), count(job, ResumeBatchJob.Item.Status.FAILED));
+        }
+    }
+
+    private void applyChunk(ResumeBatchJob job, List<ResumeBatchJob.Item> chunk) {
+        Map<UUID, Map<String, Object>> parsedByCandidate = new LinkedHashMap<>();
+        for (ResumeBatchJob.Item item : chunk) {
+            parsedByCandidate.put(item.getCandidateId(), item.getParsedData());
+        }
+        try {
+            Set<UUID> applied = candidateService.applyParsedResumes(job.getTenantId(), parsedByCandidate);
+            List<ResumeBatchJob.Item> done = new ArrayList<>();
+            List<ResumeBatchJob.Item> missing = new ArrayList<>();
+            for (ResumeBatchJob.Item item : chunk) {
+                (applied.contains(item.getCandidateId()) ? done : missing).add(item);
+            }
+            done.forEach(ResumeBatchJob.Item::applied);
+            record(done, ResumeParseJob.Status.COMPLETED, null);
+            fail(missing, "Candidate not found");
+        } catch (Exception e) {
+            log.error("Resume batch {} chunk failed", job.getId(), e);
+            fail(chunk, "Failed to save parsed resume: " + e.getMessage());
+        }
+    }
+
+    private void fail(List<ResumeBatchJob.Item> items, String error) {
+        items.forEach(item -> item.fail(error));
+        record(items, ResumeParseJob.Status.FAILED, error);
+    }
+
+    // A lost write leaves the row RUNNING; recovery then finishes it from the parse cache
+    private void record(List<ResumeBatchJob.Item> items, ResumeParseJob.Status status, String error) {
+        if (items.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = items.stream().map(ResumeBatchJob.Item::getId).toList();
+        try {
+            transactionTemplate.executeWithoutResult(tx -> jobRepository.finishRunning(
+                    ids, ResumeParseJob.Status.RUNNING, status, error, LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("Failed to record {} for {} resume batch files", status, ids.size(), e);
+        }
+    }
+
+    private ResumeParseJob toRow(ResumeBatchJob job, ResumeBatchJob.Item item, LocalDateTime now) {
+        boolean rejected = item.getStatus() == ResumeBatchJob.Item.Status.FAILED;
+        ResumeFileStore.StoredResume stored = item.getStored();
+        return ResumeParseJob.builder()
+                .id(item.getId())
+                .tenantId(job.getTenantId())
+                .candidateId(item.getCandidateId())
+                .status(rejected ? ResumeParseJob.Status.FAILED : ResumeParseJob.Status.QUEUED)
+                .fileName(item.getFileName())
+                .filePath(rejected || stored == null ? null : stored.path().toString())
+                .ownerNode(nodeId)
+                .fileSize(stored != null ? stored.size() : 0)
+                .contentHash(stored != null ? stored.contentHash() : null)
+                .batchId(job.getId())
+                .batchPosition(item.getPosition())
+                .error(item.getError())
+                .createdAt(now)
+                .updatedAt(now)
+                .finishedAt(rejected ? now : null)
+                .build();
+    }
+
+    private static long count(ResumeBatchJob job, ResumeBatchJob.Item.Status status) {
+        return job.getItems().stream().filter(item -> item.getStatus() == status).count();
+    }
+
+    private void discard(ResumeBatchJob job) {
+        job.getItems().forEach(this::deleteFile);
+    }
+
+    private void deleteFile(ResumeBatchJob.Item item) {
+        if (item.getStored() != null) {
+            fileStore.delete(item.getStored().path().toString());
+        }
+    }
+
+    private static String baseName(String entryName) {
+        int slash = Math.max(entryName.lastIndexOf('/'), entryName.lastIndexOf('\\'));
+        return entryName.substring(slash + 1);
+    }
+
+    private static UUID candidateIdOf(String fileName) {
+        int dot = fileName.indexOf('.');
+        String stem = dot < 0 ? fileName : fileName.substring(0, dot);
+        try {
+            return UUID.fromString(stem);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private ResumeBatchJobResponse toResponse(UUID batchId, List<ResumeParseJob> rows) {
+        List<ResumeBatchItemResponse> items = rows.stream()
+                .map(row -> ResumeBatchItemResponse.builder()
+                        .fileName(row.getFileName())
+                        .candidateId(row.getCandidateId())
+                        .status(itemStatus(row.getStatus()))
+                        .fromCache(row.isFromCache())
+                        .error(row.getError())
+                        .build())
+                .collect(Collectors.toList());
+        boolean finished = rows.stream().noneMatch(row -> UNFINISHED.contains(row.getStatus()));
+        return ResumeBatchJobResponse.builder()
+                .jobId(batchId)
+                .status(finished ? "COMPLETED" : "RUNNING")
+                .total(items.size())
+                .applied(count(rows, ResumeParseJob.Status.COMPLETED))
+                .skipped(count(rows, ResumeParseJob.Status.SKIPPED))
+                .failed(count(rows, ResumeParseJob.Status.FAILED))
+                .fromCache(rows.stream().filter(ResumeParseJob::isFromCache).count())
+                .items(items)
+                .createdAt(rows.stream().map(ResumeParseJob::getCreatedAt).min(Comparator.naturalOrder()).orElse(null))
+                .finishedAt(finished
+                        ? rows.stream().map(ResumeParseJob::getFinishedAt).filter(Objects::nonNull)
+                                .max(Comparator.naturalOrder()).orElse(null)
+                        : null)
+                .build();
+    }
+
+    private static long count(List<ResumeParseJob> rows, ResumeParseJob.Status status) {
+        return rows.stream().filter(row -> row.getStatus() == status).count();
+    }
+
+    // Same names the batch API has always reported
+    private static String itemStatus(ResumeParseJob.Status status) {
+        return status == ResumeParseJob.Status.COMPLETED ? "APPLIED" : status.name();
+    }
+}
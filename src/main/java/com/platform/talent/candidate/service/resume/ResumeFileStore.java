@@ -0,0 +1,90 @@
+package com.platform.talent.candidate.service.resume;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Spools resume uploads to pod-local disk until their parse job finishes. Only the replica
+ * that spooled a file (the job's owner node) recovers it after a restart; jobs owned by a
+ * node that does not come back are failed once {@code orphan-after} has passed. No shared
+ * RWX volume is needed, and no replica takes over another replica's files.
+ */
+@Component
+@Slf4j
+public class ResumeFileStore {
+
+    private final Path root;
+
+    public ResumeFileStore(@Value("${candidate.resume.storage-dir:${java.io.tmpdir}/candidate-resumes}") String storageDir)
+            throws IOException {
+        this.root = Files.createDirectories(Paths.get(storageDir));
+    }
+
+    // Copies the upload in one streaming pass that also hashes it, so deduplication needs no re-read
+    public StoredResume store(UUID jobId, MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return store(jobId, in, Long.MAX_VALUE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store resume", e);
+        }
+    }
+
+    // The caller owns the stream; reading stops with an error once maxBytes is exceeded
+    public StoredResume store(UUID fileId, InputStream content, long maxBytes) {
+        Path target = root.resolve(fileId.toString());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (OutputStream out = Files.newOutputStream(target)) {
+                size = copyBounded(new DigestInputStream(content, digest), out, maxBytes);
+            }
+            return new StoredResume(target, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            delete(target.toString());
+            throw e instanceof RuntimeException runtime ? runtime : new RuntimeException("Failed to store resume", e);
+        }
+    }
+
+    private static long copyBounded(InputStream in, OutputStream out, long maxBytes) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+            if (total > maxBytes) {
+                throw new RuntimeException("Resume exceeds maximum size of " + maxBytes + " bytes");
+            }
+            out.write(buffer, 0, read);
+        }
+        return total;
+    }
+
+    public Path resolve(String storedPath) {
+        return Paths.get(storedPath);
+    }
+
+    public void delete(String storedPath) {
+        try {
+            Files.deleteIfExists(Paths.get(storedPath));
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled resume {}", storedPath, e);
+        }
+    }
+
+    public record StoredResume(Path path, String contentHash, long size) {
+    }
+}
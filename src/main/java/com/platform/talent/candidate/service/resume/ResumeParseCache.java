@@ -0,0 +1,127 @@
+package com.platform.talent.candidate.service.resume;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.talent.candidate.domain.model.ResumeParseResult;
+import com.platform.talent.candidate.domain.repository.ResumeParseResultRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parsed resumes by SHA-256 of the file: an in-memory Caffeine front over
+ * ggj_resume_parse_cache. Identical uploads, for the same or another candidate,
+ * reuse the stored result instead of calling the parser again.
+ */
+@Component
+@Slf4j
+public class ResumeParseCache {
+
+    private final ResumeParseResultRepository resultRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Map<String, Object>> memory;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Counter callsAvoided;
+
+    @Value("${candidate.resume.cache.retention:90d}")
+    private Duration retention;
+
+    public ResumeParseCache(ResumeParseResultRepository resultRepository,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${candidate.resume.cache.maximum-size:2000}") long maximumSize) {
+        this.resultRepository = resultRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "resumeParseResults", Tags.empty());
+
+        // Hits and misses across both tiers; a miss means the parser gets called
+        FunctionCounter.builder("resume.parse.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("resume.parse.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("resume.parse.cache.hit.ratio", this, ResumeParseCache::hitRatio)
+                .description("Share of resume parses served from the content-hash cache")
+                .register(meterRegistry);
+        this.callsAvoided = Counter.builder("resume.parser.calls.avoided")
+                .description("Resume parser calls skipped because the file was parsed before")
+                .register(meterRegistry);
+    }
+
+    // recordMiss=false for opportunistic lookups that do not lead to a parser call themselves
+    public Optional<Map<String, Object>> find(String contentHash, boolean recordMiss) {
+        if (contentHash == null) {
+            return Optional.empty();
+        }
+        Map<String, Object> parsed = memory.getIfPresent(contentHash);
+        if (parsed == null) {
+            parsed = resultRepository.findById(contentHash)
+                    .map(ResumeParseResult::getParsedData)
+                    .orElse(null);
+            if (parsed != null) {
+                memory.put(contentHash, parsed);
+            }
+        }
+        if (parsed == null) {
+            if (recordMiss) {
+                misses.incrementAndGet();
+            }
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        callsAvoided.increment();
+        return Optional.of(parsed);
+    }
+
+    public void put(String contentHash, long fileSize, Map<String, Object> parsedData) {
+        if (contentHash == null) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(parsedData);
+            transactionTemplate.executeWithoutResult(status -> resultRepository.insertIfAbsent(
+                    contentHash, json, fileSize, LocalDateTime.now()));
+            memory.put(contentHash, parsedData);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Losing a cache entry only costs a future parser call
+            log.warn("Failed to cache parsed resume {}", contentHash, e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3_600_000)
+    public void purgeExpired() {
+        transactionTemplate.executeWithoutResult(status ->
+                resultRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention)));
+    }
+
+    private double hitRatio() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+}
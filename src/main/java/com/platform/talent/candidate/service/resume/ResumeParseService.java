@@ -0,0 +1,312 @@
+package com.platform.talent.candidate.service.resume;
+
+import com.platform.talent.candidate.api.dto.ResumeParseJobResponse;
+import com.platform.talent.candidate.domain.model.ResumeParseJob;
+import com.platform.talent.candidate.domain.repository.CandidateRepository;
+import com.platform.talent.candidate.domain.repository.ResumeParseJobRepository;
+import com.platform.talent.candidate.service.CandidateService;
+import com.platform.talent.candidate.service.integration.ResumeParserService;
+import com.platform.talent.candidate.service.integration.ResumeUploadBudget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Accepts resume uploads as persisted parse jobs and runs them on a bounded worker pool,
+ * so neither the request thread nor a database connection waits on the AI parser. Jobs
+ * left behind by a full queue, a parser outage or a crashed worker are picked up again
+ * by {@link #recoverJobs()}.
+ *
+ * <p>Unless {@code candidate.resume.shared-storage} is set, the spooled file exists only on
+ * the replica that took the upload, so each job records its owner node and only that node
+ * recovers it. Jobs of a node that never comes back are failed after {@code orphan-after}.
+ *
+ * <p>Files of a {@link ResumeBatchService} batch are jobs too. Their batch parses and applies
+ * them while it keeps them fresh; recovery takes over only once that heartbeat stops.
+ */
+@Service
+@Slf4j
+public class ResumeParseService {
+
+    private final ResumeParseJobRepository jobRepository;
+    private final CandidateRepository candidateRepository;
+    private final CandidateService candidateService;
+    private final ResumeParserService resumeParserService;
+    private final ResumeUploadBudget uploadBudget;
+    private final ResumeFileStore fileStore;
+    private final ResumeParseCache parseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor parseExecutor;
+
+    @Value("${integration.resume-parser.max-file-size:10MB}")
+    private DataSize maxResumeSize;
+
+    @Value("${candidate.resume.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${candidate.resume.retry-delay:1m}")
+    private Duration retryDelay;
+
+    @Value("${candidate.resume.stale-after:5m}")
+    private Duration staleAfter;
+
+    @Value("${candidate.resume.job-retention:7d}")
+    private Duration jobRetention;
+
+    @Value("${candidate.resume.node-id}")
+    private String nodeId;
+
+    @Value("${candidate.resume.shared-storage:false}")
+    private boolean sharedStorage;
+
+    @Value("${candidate.resume.orphan-after:24h}")
+    private Duration orphanAfter;
+
+    public ResumeParseService(
+        ResumeParseJobRepository jobRepository,
+        CandidateRepository candidateRepository,
+        CandidateService candidateService,
+        ResumeParserService resumeParserService,
+        ResumeUploadBudget uploadBudget,
+        ResumeFileStore fileStore,
+        ResumeParseCache parseCache,
+        TransactionTemplate transactionTemplate,
+        @Qualifier("resumeParseExecutor") ThreadPoolTaskExecutor parseExecutor
+    ) {
+        this.jobRepository = jobRepository;
+        this.candidateRepository = candidateRepository;
+        this.candidateService = candidateService;
+        this.resumeParserService = resumeParserService;
+        this.uploadBudget = uploadBudget;
+        this.fileStore = fileStore;
+        this.parseCache = parseCache;
+        this.transactionTemplate = transactionTemplate;
+        this.parseExecutor = parseExecutor;
+    }
+
+    public ResumeParseJobResponse submit(UUID tenantId, UUID candidateId, MultipartFile resume) {
+        log.info("Uploading resume for candidate: {}", candidateId);
+
+        if (resume.getSize() > maxResumeSize.toBytes()) {
+            throw new RuntimeException("Resume exceeds maximum size of " + maxResumeSize.toMegabytes() + "MB");
+        }
+        if (!candidateRepository.existsByIdAndTenantId(candidateId, tenantId)) {
+            throw new RuntimeException("Candidate not found");
+        }
+
+        UUID jobId = UUID.randomUUID();
+        ResumeFileStore.StoredResume stored = fileStore.store(jobId, resume);
+        LocalDateTime now = LocalDateTime.now();
+        ResumeParseJob job = ResumeParseJob.builder()
+                .id(jobId)
+                .tenantId(tenantId)
+                .candidateId(candidateId)
+                .status(ResumeParseJob.Status.QUEUED)
+                .fileName(resume.getOriginalFilename())
+                .filePath(stored.path().toString())
+                .ownerNode(nodeId)
+                .fileSize(resume.getSize())
+                .contentHash(stored.contentHash())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        // A file parsed before is applied right away, without a parser call or a queue hop
+        Map<String, Object> cached = parseCache.find(stored.contentHash(), false).orElse(null);
+        if (cached != null) {
+            candidateService.applyParsedResume(tenantId, candidateId, cached);
+            job.setStatus(ResumeParseJob.Status.COMPLETED);
+            job.setFinishedAt(now);
+            fileStore.delete(job.getFilePath());
+            return toResponse(jobRepository.save(job));
+        }
+
+        try {
+            job = jobRepository.save(job);
+        } catch (RuntimeException e) {
+            fileStore.delete(job.getFilePath());
+            throw e;
+        }
+
+        dispatch(jobId);
+        return toResponse(job);
+    }
+
+    public ResumeParseJobResponse getJob(UUID tenantId, UUID candidateId, UUID jobId) {
+        return jobRepository.findByIdAndTenantIdAndCandidateId(jobId, tenantId, candidateId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new RuntimeException("Resume parse job not found"));
+    }
+
+    @Scheduled(fixedDelayString = "${candidate.resume.recovery-interval-ms:30000}")
+    public void recoverJobs() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            String owner = sharedStorage ? null : nodeId;
+            Integer requeued = transactionTemplate.execute(status -> jobRepository.requeueStale(
+                    ResumeParseJob.Status.RUNNING, ResumeParseJob.Status.QUEUED, now.minus(staleAfter), owner, now));
+            if (requeued != null && requeued > 0) {
+                log.warn("Requeued {} stalled resume parse jobs", requeued);
+            }
+            if (!sharedStorage) {
+                Integer orphaned = transactionTemplate.execute(status -> jobRepository.failOrphaned(
+                        List.of(ResumeParseJob.Status.QUEUED, ResumeParseJob.Status.RUNNING),
+                        ResumeParseJob.Status.FAILED, "Spooled resume file was lost with its replica",
+                        nodeId, now.minus(orphanAfter), now));
+                if (orphaned != null && orphaned > 0) {
+                    log.warn("Failed {} resume parse jobs left by replicas that are gone", orphaned);
+                }
+            }
+
+            // Only take what the pool can queue; the rest waits for the next pass
+            int capacity = parseExecutor.getThreadPoolExecutor().getQueue().remainingCapacity();
+            if (capacity == 0) {
+                return;
+            }
+            List<UUID> ready = jobRepository.findIdsByStatusUpdatedBefore(ResumeParseJob.Status.QUEUED,
+                    now.minus(retryDelay), now.minus(staleAfter), owner, PageRequest.of(0, capacity));
+            ready.forEach(this::dispatch);
+        } catch (Exception e) {
+            log.error("Resume parse job recovery failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3_600_000)
+    public void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(jobRetention);
+        transactionTemplate.executeWithoutResult(status -> jobRepository.deleteFinishedBefore(
+                List.of(ResumeParseJob.Status.COMPLETED, ResumeParseJob.Status.SKIPPED, ResumeParseJob.Status.FAILED),
+                cutoff));
+    }
+
+    private void dispatch(UUID jobId) {
+        Runnable submit = () -> {
+            try {
+                parseExecutor.execute(() -> process(jobId));
+            } catch (TaskRejectedException e) {
+                log.debug("Resume parse queue full, job {} left for recovery", jobId);
+            }
+        };
+        // The worker must be able to see the job row
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    private void process(UUID jobId) {
+        Boolean claimed = transactionTemplate.execute(status -> jobRepository.claim(
+                jobId, ResumeParseJob.Status.QUEUED, ResumeParseJob.Status.RUNNING, LocalDateTime.now()) == 1);
+        if (!Boolean.TRUE.equals(claimed)) {
+            return;
+        }
+        ResumeParseJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        try {
+            // Checked first: an identical upload may have finished while this one was queued, or
+            // a batch parsed this file before its replica stopped and the file went with it
+            Map<String, Object> parsedData = parseCache.find(job.getContentHash(), true).orElse(null);
+            if (parsedData == null) {
+                Path file = fileStore.resolve(job.getFilePath());
+                if (!Files.exists(file)) {
+                    finish(job, ResumeParseJob.Status.FAILED, "Spooled resume file is missing");
+                    return;
+                }
+                ResumeUploadBudget.Lease lease;
+                try {
+                    lease = uploadBudget.acquire(job.getFileSize());
+                } catch (RuntimeException e) {
+                    // Local back-pressure: back to the queue without spending an attempt
+                    job.setAttempts(job.getAttempts() - 1);
+                    retryOrFail(job, e.getMessage());
+                    return;
+                }
+                try (lease) {
+                    parsedData = resumeParserService.parseResume(job.getCandidateId(), file, job.getFileName());
+                }
+                if (isFallback(parsedData)) {
+                    retryOrFail(job, "Resume parser unavailable");
+                    return;
+                }
+                parseCache.put(job.getContentHash(), job.getFileSize(), parsedData);
+            }
+
+            candidateService.applyParsedResume(job.getTenantId(), job.getCandidateId(), parsedData);
+            finish(job, ResumeParseJob.Status.COMPLETED, null);
+            log.info("Resume parsed for candidate: {}", job.getCandidateId());
+        } catch (Exception e) {
+            log.error("Resume parse job {} failed", jobId, e);
+            retryOrFail(job, e.getMessage());
+        }
+    }
+
+    private static boolean isFallback(Map<String, Object> parsedData) {
+        // Circuit-breaker fallback and non-200 responses must not overwrite the candidate
+        return parsedData == null
+                || "fallback".equals(parsedData.get("status"))
+                || parsedData.containsKey("error");
+    }
+
+    private void retryOrFail(ResumeParseJob job, String error) {
+        if (job.getAttempts() >= maxAttempts) {
+            finish(job, ResumeParseJob.Status.FAILED, error);
+            return;
+        }
+        job.setStatus(ResumeParseJob.Status.QUEUED);
+        job.setError(error);
+        job.setUpdatedAt(LocalDateTime.now());
+        jobRepository.save(job);
+    }
+
+    private void finish(ResumeParseJob job, ResumeParseJob.Status status, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        job.setStatus(status);
+        job.setError(error);
+        job.setUpdatedAt(now);
+        job.setFinishedAt(now);
+        jobRepository.save(job);
+        fileStore.delete(job.getFilePath());
+    }
+
+    private ResumeParseJobResponse toResponse(ResumeParseJob job) {
+        return ResumeParseJobResponse.builder()
+                .jobId(job.getId())
+                .candidateId(job.getCandidateId())
+                .status(job.getStatus().name())
+                .fileName(job.getFileName())
+                .fileSize(job.getFileSize())
+                .attempts(job.getAttempts())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
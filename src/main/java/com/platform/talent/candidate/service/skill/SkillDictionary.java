@@ -0,0 +1,174 @@
+package com.platform.talent.candidate.service.skill;
+
+import com.platform.talent.candidate.domain.model.Candidate;
+import com.platform.talent.candidate.domain.model.SkillTermKind;
+import com.platform.talent.candidate.domain.repository.SkillTermRepository;
+import com.platform.talent.candidate.domain.repository.SkillTermRepository.Term;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Interns candidate skills, certifications and languages into the per-tenant term
+ * dictionary on write. Each list is rewritten as de-duplicated display terms with a
+ * parallel id array, so "Java", "java " and "JAVA" become one term and one int.
+ *
+ * <p>New terms are inserted in the caller's transaction and only cached once it commits,
+ * so an id from a rolled-back insert is never handed out.
+ */
+@Component
+@Slf4j
+public class SkillDictionary {
+
+    private final SkillTermRepository termRepository;
+    private final Map<UUID, TenantTerms> tenants = new ConcurrentHashMap<>();
+
+    public SkillDictionary(SkillTermRepository termRepository) {
+        this.termRepository = termRepository;
+    }
+
+    public void intern(UUID tenantId, Collection<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        TenantTerms terms = terms(tenantId);
+        intern(tenantId, terms, SkillTermKind.SKILL, candidates, Candidate::getSkills, (candidate, interned) -> {
+            candidate.setSkills(interned.displayTerms());
+            candidate.setSkillIds(interned.ids());
+        });
+        intern(tenantId, terms, SkillTermKind.CERTIFICATION, candidates, Candidate::getCertifications, (candidate, interned) -> {
+            candidate.setCertifications(interned.displayTerms());
+            candidate.setCertificationIds(interned.ids());
+        });
+        intern(tenantId, terms, SkillTermKind.LANGUAGE, candidates, Candidate::getLanguages, (candidate, interned) -> {
+            candidate.setLanguages(interned.displayTerms());
+            candidate.setLanguageIds(interned.ids());
+        });
+    }
+
+    private void intern(UUID tenantId, TenantTerms terms, SkillTermKind kind, Collection<Candidate> candidates,
+                        Function<Candidate, List<String>> getter, BiConsumer<Candidate, Interned> setter) {
+        // One round-trip per kind for every term this batch introduces. Sorted, so concurrent
+        // batches take the unique-index locks in the same order and cannot deadlock.
+        Map<String, String> missing = new TreeMap<>();
+        for (Candidate candidate : candidates) {
+            List<String> values = getter.apply(candidate);
+            if (values == null) {
+                continue;
+            }
+            for (String value : values) {
+                if (value == null) {
+                    continue;
+                }
+                String display = SkillTermRepository.displayForm(value);
+                String normalized = SkillTermRepository.normalize(value);
+                if (!normalized.isEmpty() && terms.id(kind, normalized) == null) {
+                    missing.putIfAbsent(normalized, display);
+                }
+            }
+        }
+
+        Map<String, Term> inserted = new HashMap<>();
+        if (!missing.isEmpty()) {
+            List<Term> rows = termRepository.insertMissing(tenantId, kind, missing);
+            rows.forEach(term -> inserted.put(term.normalizedTerm(), term));
+            runAfterCommit(() -> rows.forEach(terms::put));
+        }
+
+        for (Candidate candidate : candidates) {
+            List<String> values = getter.apply(candidate);
+            if (values == null) {
+                continue;
+            }
+            Map<Integer, String> resolved = new LinkedHashMap<>();
+            for (String value : values) {
+                if (value == null) {
+                    continue;
+                }
+                String normalized = SkillTermRepository.normalize(value);
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                Integer id = terms.id(kind, normalized);
+                if (id != null) {
+                    resolved.putIfAbsent(id, terms.display(id));
+                } else {
+                    Term term = inserted.get(normalized);
+                    resolved.putIfAbsent(term.id(), term.displayTerm());
+                }
+            }
+            setter.accept(candidate, new Interned(
+                    new ArrayList<>(resolved.values()),
+                    resolved.keySet().stream().mapToInt(Integer::intValue).toArray()));
+        }
+    }
+
+    private TenantTerms terms(UUID tenantId) {
+        TenantTerms terms = tenants.get(tenantId);
+        if (terms != null) {
+            return terms;
+        }
+        // Loaded outside computeIfAbsent so a virtual thread never waits on the query under the map lock
+        TenantTerms loaded = new TenantTerms();
+        termRepository.findByTenantId(tenantId).forEach(loaded::put);
+        TenantTerms existing = tenants.putIfAbsent(tenantId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Interned(List<String> displayTerms, int[] ids) {
+    }
+
+    // Normalized term -> id per kind, and id -> display term
+    private static final class TenantTerms {
+
+        private final Map<SkillTermKind, Map<String, Integer>> ids = new EnumMap<>(SkillTermKind.class);
+        private final Map<Integer, String> displays = new ConcurrentHashMap<>();
+
+        TenantTerms() {
+            for (SkillTermKind kind : SkillTermKind.values()) {
+                ids.put(kind, new ConcurrentHashMap<>());
+            }
+        }
+
+        Integer id(SkillTermKind kind, String normalized) {
+            return ids.get(kind).get(normalized);
+        }
+
+        String display(int id) {
+            return displays.get(id);
+        }
+
+        void put(Term term) {
+            // Display first, so a reader that finds the id always finds its display term
+            displays.put(term.id(), term.displayTerm());
+            ids.get(term.kind()).put(term.normalizedTerm(), term.id());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.platform.talent.candidate.service.sweep;
+
+public enum StaleCandidateAction {
+    ARCHIVE,   // Move to ARCHIVED
+    FLAG,      // Mark stale and emit candidate.stale.flagged
+    REMIND     // Mark stale and emit candidate.contact.reminder for the recruiter
+}
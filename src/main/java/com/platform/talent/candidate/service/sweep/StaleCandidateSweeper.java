@@ -0,0 +1,85 @@
+package com.platform.talent.candidate.service.sweep;
+
+import com.platform.talent.candidate.domain.model.CandidateStatus;
+import com.platform.talent.candidate.domain.repository.CandidateRepository;
+import com.platform.talent.candidate.service.CandidateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Finds candidates not contacted within the configured window, across all tenants, and
+ * applies one action to them. Each status is walked by id in fixed-size chunks, and every
+ * chunk is locked, updated and committed in its own short transaction, so large tenants
+ * never load into memory at once. SKIP LOCKED lets replicas and user edits proceed
+ * concurrently; anything skipped is picked up by the next run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "candidate.stale-sweep.enabled", havingValue = "true")
+public class StaleCandidateSweeper {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final CandidateRepository candidateRepository;
+    private final CandidateService candidateService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${candidate.stale-sweep.statuses:NEW,SCREENING,QUALIFIED,ON_HOLD}")
+    private List<CandidateStatus> statuses;
+
+    @Value("${candidate.stale-sweep.stale-after:90d}")
+    private Duration staleAfter;
+
+    @Value("${candidate.stale-sweep.action:FLAG}")
+    private StaleCandidateAction action;
+
+    @Value("${candidate.stale-sweep.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${candidate.stale-sweep.cron:0 0 3 * * *}")
+    public void sweep() {
+        LocalDateTime since = LocalDateTime.now().minus(staleAfter);
+        for (CandidateStatus status : statuses) {
+            try {
+                int swept = sweepStatus(status, since);
+                log.info("Stale sweep applied {} to {} {} candidates", action, swept, status);
+            } catch (Exception e) {
+                log.error("Stale sweep failed for status {}, will retry on next run", status, e);
+            }
+        }
+    }
+
+    private int sweepStatus(CandidateStatus status, LocalDateTime since) {
+        UUID afterId = MIN_UUID;
+        int swept = 0;
+        while (true) {
+            UUID from = afterId;
+            List<UUID> chunk = transactionTemplate.execute(tx -> {
+                List<UUID> ids = candidateRepository.lockStaleIdsAfter(status.name(), since, from, chunkSize);
+                if (!ids.isEmpty()) {
+                    candidateService.applyStaleAction(ids, action);
+                }
+                return ids;
+            });
+            if (chunk == null || chunk.isEmpty()) {
+                return swept;
+            }
+            swept += chunk.size();
+            afterId = chunk.get(chunk.size() - 1);
+            if (chunk.size() < chunkSize) {
+                return swept;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- Candidate Management Service - Contract step for V11 (candidate details side table)
+-- Not on the Flyway path yet. Once every replica runs the CandidateDetails mapping, move this
+-- file to db/migration as the next version (V<n>__drop_candidate_detail_columns.sql) and
+-- ship it in a later release than the one that introduced V11.
+DROP TRIGGER trg_candidates_sync_details_insert ON ggj_candidates;
+DROP TRIGGER trg_candidates_sync_details_update ON ggj_candidates;
+DROP FUNCTION ggj_candidates_sync_details();
+
+ALTER TABLE ggj_candidates
+    DROP COLUMN resume_data,
+    DROP COLUMN education,
+    DROP COLUMN work_experience,
+    DROP COLUMN custom_fields;
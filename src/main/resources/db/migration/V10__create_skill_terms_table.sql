@@ -0,0 +1,59 @@
+-- Candidate Management Service - Per-tenant dictionary for skills, certifications and languages
+-- Terms are normalized (trimmed, inner whitespace collapsed, lower-cased) and stored once;
+-- candidates keep integer id arrays next to the display strings.
+CREATE TABLE ggj_skill_terms (
+    id SERIAL PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    kind VARCHAR(20) NOT NULL,
+    normalized_term TEXT NOT NULL,
+    display_term TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    CONSTRAINT uk_skill_terms_tenant_kind_term UNIQUE (tenant_id, kind, normalized_term)
+);
+
+ALTER TABLE ggj_candidates
+    ADD COLUMN skill_ids INTEGER[],
+    ADD COLUMN certification_ids INTEGER[],
+    ADD COLUMN language_ids INTEGER[];
+
+-- Backfill the dictionary; the earliest candidate's spelling becomes the display form
+INSERT INTO ggj_skill_terms (tenant_id, kind, normalized_term, display_term)
+SELECT DISTINCT ON (tenant_id, kind, normalized_term) tenant_id, kind, normalized_term, display_term
+FROM (
+    SELECT c.tenant_id, k.kind, c.created_at,
+           btrim(regexp_replace(e.term, '\s+', ' ', 'g')) AS display_term,
+           lower(btrim(regexp_replace(e.term, '\s+', ' ', 'g'))) AS normalized_term
+    FROM ggj_candidates c
+    CROSS JOIN LATERAL (VALUES ('SKILL', c.skills), ('CERTIFICATION', c.certifications), ('LANGUAGE', c.languages)) AS k(kind, terms)
+    CROSS JOIN LATERAL jsonb_array_elements_text(CASE WHEN jsonb_typeof(k.terms) = 'array' THEN k.terms ELSE '[]'::jsonb END) AS e(term)
+) t
+WHERE normalized_term <> ''
+ORDER BY tenant_id, kind, normalized_term, created_at;
+
+-- Rewrite each list as de-duplicated display terms plus their ids, keeping first-seen order
+CREATE FUNCTION pg_temp.intern_terms(p_tenant UUID, p_kind VARCHAR, p_terms JSONB, OUT ids INTEGER[], OUT terms JSONB) AS $$
+    SELECT array_agg(id ORDER BY ord), jsonb_agg(display_term ORDER BY ord)
+    FROM (
+        SELECT t.id, t.display_term, min(e.ord) AS ord
+        FROM jsonb_array_elements_text(p_terms) WITH ORDINALITY AS e(term, ord)
+        JOIN ggj_skill_terms t ON t.tenant_id = p_tenant AND t.kind = p_kind
+            AND t.normalized_term = lower(btrim(regexp_replace(e.term, '\s+', ' ', 'g')))
+        GROUP BY t.id, t.display_term
+    ) matched
+$$ LANGUAGE sql STABLE;
+
+UPDATE ggj_candidates c SET (skill_ids, skills) = (
+    SELECT coalesce(i.ids, '{}'), coalesce(i.terms, '[]'::jsonb) FROM pg_temp.intern_terms(c.tenant_id, 'SKILL', c.skills) i)
+WHERE jsonb_typeof(c.skills) = 'array';
+
+UPDATE ggj_candidates c SET (certification_ids, certifications) = (
+    SELECT coalesce(i.ids, '{}'), coalesce(i.terms, '[]'::jsonb) FROM pg_temp.intern_terms(c.tenant_id, 'CERTIFICATION', c.certifications) i)
+WHERE jsonb_typeof(c.certifications) = 'array';
+
+UPDATE ggj_candidates c SET (language_ids, languages) = (
+    SELECT coalesce(i.ids, '{}'), coalesce(i.terms, '[]'::jsonb) FROM pg_temp.intern_terms(c.tenant_id, 'LANGUAGE', c.languages) i)
+WHERE jsonb_typeof(c.languages) = 'array';
+
+-- Skill filters now probe the int array; the JSONB containment index is no longer used
+CREATE INDEX idx_candidate_skill_ids ON ggj_candidates USING GIN(skill_ids);
+DROP INDEX IF EXISTS idx_candidate_skills;
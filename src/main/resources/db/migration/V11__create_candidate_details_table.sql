@@ -0,0 +1,62 @@
+-- Candidate Management Service - Move the large JSONB profile parts to a one-to-one side table
+-- Stage changes and list reads load ggj_candidates rows without multi-KB resume JSON.
+CREATE TABLE ggj_candidate_details (
+    candidate_id UUID PRIMARY KEY REFERENCES ggj_candidates(id) ON DELETE CASCADE,
+    resume_data JSONB,
+    education JSONB,
+    work_experience JSONB,
+    custom_fields JSONB,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- Only candidates that have any of the parts get a row
+INSERT INTO ggj_candidate_details (candidate_id, resume_data, education, work_experience, custom_fields)
+SELECT id, resume_data, education, work_experience, custom_fields
+FROM ggj_candidates
+WHERE resume_data IS NOT NULL OR education IS NOT NULL
+   OR work_experience IS NOT NULL OR custom_fields IS NOT NULL;
+
+-- Expand step only: replicas still on the old mapping keep reading and writing the columns
+-- during a rolling update, so they stay until db/contract/drop_candidate_detail_columns.sql
+-- ships. Meanwhile their writes are copied into the side table; only columns that actually
+-- changed are copied, so an old replica saving an unrelated change cannot revert new data.
+CREATE FUNCTION ggj_candidates_sync_details() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO ggj_candidate_details (candidate_id, resume_data, education, work_experience, custom_fields)
+        VALUES (NEW.id, NEW.resume_data, NEW.education, NEW.work_experience, NEW.custom_fields)
+        ON CONFLICT (candidate_id) DO NOTHING;
+        RETURN NEW;
+    END IF;
+    INSERT INTO ggj_candidate_details (candidate_id, resume_data, education, work_experience, custom_fields)
+    VALUES (NEW.id, NEW.resume_data, NEW.education, NEW.work_experience, NEW.custom_fields)
+    ON CONFLICT (candidate_id) DO UPDATE SET
+        resume_data = CASE WHEN NEW.resume_data IS DISTINCT FROM OLD.resume_data
+                           THEN EXCLUDED.resume_data ELSE ggj_candidate_details.resume_data END,
+        education = CASE WHEN NEW.education IS DISTINCT FROM OLD.education
+                         THEN EXCLUDED.education ELSE ggj_candidate_details.education END,
+        work_experience = CASE WHEN NEW.work_experience IS DISTINCT FROM OLD.work_experience
+                               THEN EXCLUDED.work_experience ELSE ggj_candidate_details.work_experience END,
+        custom_fields = CASE WHEN NEW.custom_fields IS DISTINCT FROM OLD.custom_fields
+                             THEN EXCLUDED.custom_fields ELSE ggj_candidate_details.custom_fields END,
+        version = ggj_candidate_details.version + 1;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_candidates_sync_details_insert
+    AFTER INSERT ON ggj_candidates
+    FOR EACH ROW
+    WHEN (NEW.resume_data IS NOT NULL OR NEW.education IS NOT NULL
+          OR NEW.work_experience IS NOT NULL OR NEW.custom_fields IS NOT NULL)
+    EXECUTE FUNCTION ggj_candidates_sync_details();
+
+CREATE TRIGGER trg_candidates_sync_details_update
+    AFTER UPDATE ON ggj_candidates
+    FOR EACH ROW
+    WHEN (NEW.resume_data IS DISTINCT FROM OLD.resume_data OR NEW.education IS DISTINCT FROM OLD.education
+          OR NEW.work_experience IS DISTINCT FROM OLD.work_experience
+          OR NEW.custom_fields IS DISTINCT FROM OLD.custom_fields)
+    EXECUTE FUNCTION ggj_candidates_sync_details();
+
+COMMENT ON TABLE ggj_candidate_details IS 'Parsed resume, education, work experience and custom fields per candidate';
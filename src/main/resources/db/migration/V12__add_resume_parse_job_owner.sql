@@ -0,0 +1,4 @@
+-- Candidate Management Service - Record which replica spooled each resume parse job
+-- Without shared storage only that replica can read the file, so only it recovers the job.
+-- Existing jobs keep a NULL owner and stay recoverable by any replica.
+ALTER TABLE ggj_resume_parse_jobs ADD COLUMN owner_node VARCHAR(255);
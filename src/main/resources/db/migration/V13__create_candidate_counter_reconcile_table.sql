@@ -0,0 +1,9 @@
+-- Candidate Management Service - Last counter reconcile, claimed by one replica per interval
+-- The claiming UPDATE only succeeds once the previous run is old enough, so the other
+-- replicas skip the recount instead of repeating it.
+CREATE TABLE ggj_candidate_counter_reconcile (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    last_run_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO ggj_candidate_counter_reconcile (id, last_run_at) VALUES (1, TIMESTAMP '1970-01-01 00:00:00');
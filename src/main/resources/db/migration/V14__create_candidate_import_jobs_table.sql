@@ -0,0 +1,22 @@
+-- Candidate Management Service - CSV import progress visible to every replica
+-- The replica that received the upload runs the job and writes progress after each chunk,
+-- plus a heartbeat while it is queued; a job whose heartbeat stops was lost with its pod.
+CREATE TABLE ggj_candidate_import_jobs (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    file_name VARCHAR(255),
+    status VARCHAR(50) NOT NULL,
+    rows_read BIGINT NOT NULL DEFAULT 0,
+    imported BIGINT NOT NULL DEFAULT 0,
+    duplicates BIGINT NOT NULL DEFAULT 0,
+    failed BIGINT NOT NULL DEFAULT 0,
+    errors TEXT[] NOT NULL DEFAULT '{}',
+    created_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX idx_candidate_import_job_status ON ggj_candidate_import_jobs(status, updated_at);
+
+COMMENT ON TABLE ggj_candidate_import_jobs IS 'Bulk CSV imports and their progress';
@@ -0,0 +1,13 @@
+-- Candidate Management Service - Resume batch files as parse job rows
+-- Each file of a batch is one job, so batch progress survives restarts and any replica can
+-- report it; the batch status is derived from its rows. Files rejected at intake (bad name,
+-- too large) are recorded as FAILED rows without a candidate or a spooled file.
+ALTER TABLE ggj_resume_parse_jobs
+    ADD COLUMN batch_id UUID,
+    ADD COLUMN batch_position INTEGER,
+    ADD COLUMN from_cache BOOLEAN NOT NULL DEFAULT FALSE,
+    ALTER COLUMN candidate_id DROP NOT NULL,
+    ALTER COLUMN file_path DROP NOT NULL;
+
+CREATE INDEX idx_resume_parse_job_batch ON ggj_resume_parse_jobs(batch_id, batch_position)
+    WHERE batch_id IS NOT NULL;
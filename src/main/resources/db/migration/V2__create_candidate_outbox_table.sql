@@ -0,0 +1,13 @@
+-- Candidate Management Service - Transactional outbox for candidate events
+CREATE SEQUENCE ggj_candidate_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE ggj_candidate_outbox (
+    id BIGINT PRIMARY KEY,
+    aggregate_id UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE ggj_candidate_outbox IS 'Candidate events written with the owning transaction and relayed to Kafka';
@@ -0,0 +1,15 @@
+-- Candidate Management Service - Search index rebuild checkpoints
+CREATE TABLE ggj_candidate_reindex_jobs (
+    id UUID PRIMARY KEY,
+    target_index VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    last_candidate_id UUID,
+    docs_indexed BIGINT NOT NULL DEFAULT 0,
+    max_docs_per_second INTEGER,
+    error TEXT,
+    started_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+COMMENT ON TABLE ggj_candidate_reindex_jobs IS 'Resumable rebuilds of the candidates search index';
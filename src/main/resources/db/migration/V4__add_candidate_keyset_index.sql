@@ -0,0 +1,2 @@
+-- Candidate Management Service - Keyset pagination over (created_at, id) within a tenant
+CREATE INDEX idx_candidate_tenant_created ON ggj_candidates(tenant_id, created_at DESC, id DESC);
@@ -0,0 +1,22 @@
+-- Candidate Management Service - Postgres search path used when Elasticsearch is disabled
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Weighted document: name (A), current position and skills (B), summary (C).
+-- Stored so ranking reads the vector instead of re-parsing the source columns per row.
+ALTER TABLE ggj_candidates ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(first_name, '') || ' ' || coalesce(last_name, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(current_position, '')), 'B') ||
+    setweight(jsonb_to_tsvector('english', coalesce(skills, '[]'::jsonb), '["string"]'), 'B') ||
+    setweight(to_tsvector('english', coalesce(summary, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_candidate_search_vector ON ggj_candidates USING GIN(search_vector);
+
+-- Trigram indexes serve fuzzy (%) and infix/prefix LIKE lookups on the lower-cased columns
+CREATE INDEX idx_candidate_first_name_trgm ON ggj_candidates USING GIN(lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_candidate_last_name_trgm ON ggj_candidates USING GIN(lower(last_name) gin_trgm_ops);
+CREATE INDEX idx_candidate_email_trgm ON ggj_candidates USING GIN(lower(email) gin_trgm_ops);
+CREATE INDEX idx_candidate_location_trgm ON ggj_candidates USING GIN(lower(location) gin_trgm_ops);
+
+-- Superseded by search_vector; no query matched its expression
+DROP INDEX IF EXISTS idx_candidate_name_search;
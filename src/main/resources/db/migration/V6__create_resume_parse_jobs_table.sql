@@ -0,0 +1,20 @@
+-- Candidate Management Service - Asynchronous resume parsing
+CREATE TABLE ggj_resume_parse_jobs (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    candidate_id UUID NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    file_name VARCHAR(255),
+    file_path VARCHAR(1000) NOT NULL,
+    file_size BIGINT NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    error TEXT,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX idx_resume_parse_job_status ON ggj_resume_parse_jobs(status, updated_at);
+CREATE INDEX idx_resume_parse_job_candidate ON ggj_resume_parse_jobs(tenant_id, candidate_id);
+
+COMMENT ON TABLE ggj_resume_parse_jobs IS 'Resume uploads waiting for, or finished with, AI parsing';
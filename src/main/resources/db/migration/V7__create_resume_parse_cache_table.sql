@@ -0,0 +1,13 @@
+-- Candidate Management Service - Parsed resumes keyed by file content
+CREATE TABLE ggj_resume_parse_cache (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    parsed_data JSONB NOT NULL,
+    file_size BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_resume_parse_cache_created ON ggj_resume_parse_cache(created_at);
+
+ALTER TABLE ggj_resume_parse_jobs ADD COLUMN content_hash VARCHAR(64);
+
+COMMENT ON TABLE ggj_resume_parse_cache IS 'AI parser output by SHA-256 of the resume file, reused for identical uploads';
@@ -0,0 +1,24 @@
+-- Candidate Management Service - Per-tenant status and pipeline stage counters
+-- Each counter is split over a few stripes so concurrent writers for one busy tenant
+-- rarely wait on the same row; readers sum the stripes.
+CREATE TABLE ggj_candidate_counters (
+    tenant_id UUID NOT NULL,
+    dimension VARCHAR(20) NOT NULL,
+    value VARCHAR(50) NOT NULL,
+    stripe SMALLINT NOT NULL,
+    count BIGINT NOT NULL,
+    PRIMARY KEY (tenant_id, dimension, value, stripe)
+);
+
+INSERT INTO ggj_candidate_counters (tenant_id, dimension, value, stripe, count)
+SELECT tenant_id, 'STATUS', status, 0, COUNT(*)
+FROM ggj_candidates
+GROUP BY tenant_id, status;
+
+INSERT INTO ggj_candidate_counters (tenant_id, dimension, value, stripe, count)
+SELECT tenant_id, 'STAGE', pipeline_stage, 0, COUNT(*)
+FROM ggj_candidates
+WHERE pipeline_stage IS NOT NULL
+GROUP BY tenant_id, pipeline_stage;
+
+COMMENT ON TABLE ggj_candidate_counters IS 'Incrementally maintained candidate counts by status and stage, reconciled periodically';
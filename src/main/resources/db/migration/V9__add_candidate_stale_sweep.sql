@@ -0,0 +1,6 @@
+-- Candidate Management Service - Stale candidate sweeper
+-- Set when a candidate is flagged or reminded, so the next sweep skips it until it is contacted again
+ALTER TABLE ggj_candidates ADD COLUMN stale_flagged_at TIMESTAMP;
+
+-- Keyset walk over one status at a time, across all tenants
+CREATE INDEX idx_candidate_status_id ON ggj_candidates(status, id);